@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.builders;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.DeduplicationFilter;
+
+import java.time.Duration;
+
+/**
+ * The {@code DeduplicationFilterBuilder} enables the creation of a {@link DeduplicationFilter} via its fluent API.
+ * <p>
+ * Every built {@link DeduplicationFilter} keeps its own state on the local HiveMQ node only, duplicates that are
+ * delivered to other HiveMQ nodes of the cluster are not detected.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface DeduplicationFilterBuilder {
+
+    /**
+     * Use the value of the given attribute as the deduplication key instead of the message id.
+     *
+     * @param attributeName The name of the attribute.
+     * @return This builder.
+     * @throws NullPointerException If {@code attributeName} is null.
+     * @since 4.54.0
+     */
+    @NotNull DeduplicationFilterBuilder keyAttribute(@NotNull String attributeName);
+
+    /**
+     * Set the maximum number of deduplication keys that are remembered. The memory of the filter is allocated for this
+     * number of keys and does not grow. If the filter is full, the oldest keys are evicted first.
+     * <p>
+     * The default is 100,000.
+     *
+     * @param maximumSize The maximum number of keys.
+     * @return This builder.
+     * @throws IllegalArgumentException If {@code maximumSize} is less than 1.
+     * @since 4.54.0
+     */
+    @NotNull DeduplicationFilterBuilder maximumSize(int maximumSize);
+
+    /**
+     * Set the time after which a deduplication key expires. It should cover the acknowledgement deadline of the
+     * subscription.
+     * <p>
+     * The default is 10 minutes.
+     *
+     * @param expireAfter The time after which a key expires.
+     * @return This builder.
+     * @throws NullPointerException     If {@code expireAfter} is null.
+     * @throws IllegalArgumentException If {@code expireAfter} is zero or negative.
+     * @since 4.54.0
+     */
+    @NotNull DeduplicationFilterBuilder expireAfter(@NotNull Duration expireAfter);
+
+    /**
+     * Create a new {@link DeduplicationFilter} from the current state of this builder. The builder can be reused
+     * afterwards, every built filter has its own state.
+     *
+     * @return A new {@link DeduplicationFilter}.
+     * @since 4.54.0
+     */
+    @NotNull DeduplicationFilter build();
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.builders;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.CustomSettings;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.OrderingKeySharding;
+
+/**
+ * The {@code OrderingKeyShardingBuilder} enables the creation of an {@link OrderingKeySharding} via its fluent API.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface OrderingKeyShardingBuilder {
+
+    /**
+     * Set the number of sub-keys a logical ordering key is spread across.
+     * <p>
+     * The default is 16.
+     *
+     * @param shards The number of shards.
+     * @return This builder.
+     * @throws IllegalArgumentException If {@code shards} is less than 1 or greater than 1,024.
+     * @since 4.54.0
+     */
+    @NotNull OrderingKeyShardingBuilder shards(int shards);
+
+    /**
+     * Set the separator between the logical ordering key and the shard. The logical ordering keys must not contain the
+     * separator, so choose a separator that can not occur in them.
+     * <p>
+     * The default is {@code #}.
+     *
+     * @param separator The separator.
+     * @return This builder.
+     * @throws NullPointerException     If {@code separator} is null.
+     * @throws IllegalArgumentException If {@code separator} is empty.
+     * @since 4.54.0
+     */
+    @NotNull OrderingKeyShardingBuilder separator(@NotNull String separator);
+
+    /**
+     * Set the number of leading topic levels of an MQTT PUBLISH that are used as the shard discriminator. For example,
+     * with {@code 2} levels all messages of the topics {@code devices/device-1/#} keep their order.
+     * <p>
+     * The default is {@code 0}, which uses the whole topic.
+     *
+     * @param discriminatorTopicLevels The number of leading topic levels, {@code 0} for the whole topic.
+     * @return This builder.
+     * @throws IllegalArgumentException If {@code discriminatorTopicLevels} is negative.
+     * @since 4.54.0
+     */
+    @NotNull OrderingKeyShardingBuilder discriminatorTopicLevels(int discriminatorTopicLevels);
+
+    /**
+     * Apply the configuration from the custom settings {@code ordering-key-shards}, {@code ordering-key-separator} and
+     * {@code ordering-key-discriminator-topic-levels}. Settings that are not present are left unchanged.
+     *
+     * @param customSettings The {@link CustomSettings} to read the configuration from.
+     * @return This builder.
+     * @throws NullPointerException     If {@code customSettings} is null.
+     * @throws IllegalArgumentException If any of the custom settings has an invalid value.
+     * @since 4.54.0
+     */
+    @NotNull OrderingKeyShardingBuilder customSettings(@NotNull CustomSettings customSettings);
+
+    /**
+     * Create a new {@link OrderingKeySharding} from the current state of this builder. The builder can be reused
+     * afterwards.
+     *
+     * @return A new {@link OrderingKeySharding}.
+     * @since 4.54.0
+     */
+    @NotNull OrderingKeySharding build();
+}
@@ -19,6 +19,7 @@ package com.hivemq.extensions.google.cloud.pubsub.api.builders;
 import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
 import com.hivemq.extension.sdk.api.annotations.NotNull;
 import com.hivemq.extensions.google.cloud.pubsub.api.model.OutboundPubSubMessage;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.PayloadCodec;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
@@ -31,7 +32,14 @@ import java.util.Map;
  * {@link OutboundPubSubMessageBuilder#build()}.
  * <p>
  * The internal state of this interface can only be changed via its methods. All arguments, that have mutable data
- * types, are deep copied before the setting method returns.
+ * types, are deep copied before the setting method returns. The only exception is {@link #dataView(ByteBuffer)},
+ * which transfers the ownership of the given buffer to this builder instead.
+ * <p>
+ * A builder can be reused to build multiple messages. The whole state ({@code topicName}, {@code data},
+ * {@code attributes}, {@code orderingKey} and {@code compression}) is retained by {@link #build()} and carries over to
+ * the next message until it is overwritten or cleared via {@link #reset()}. Builders are not thread-safe, but they are
+ * not bound to the transformer call that created them. A transformer can therefore keep one builder per thread and
+ * reuse it for all messages built by that thread.
  *
  * @author Florian Limpöck
  * @author Mario Schwede
@@ -92,6 +100,26 @@ public interface OutboundPubSubMessageBuilder {
      */
     @NotNull OutboundPubSubMessageBuilder data(byte @NotNull [] data);
 
+    /**
+     * Set the data of the Google Cloud Pub/Sub message without copying it.
+     * <p>
+     * In contrast to {@link #data(ByteBuffer)}, the remaining bytes of {@code data} are not copied. Instead, the
+     * ownership of the buffer is transferred to this builder and every {@link OutboundPubSubMessage} built from it
+     * references the buffer until it was published to Google Cloud Pub/Sub. The content of the buffer must not be
+     * modified after this method was called. The position and limit of the given buffer are not changed.
+     * <p>
+     * This allows a pass-through of an MQTT payload, e.g. the read only {@link ByteBuffer} returned by
+     * {@link com.hivemq.extension.sdk.api.packets.publish.PublishPacket#getPayload()}, without allocating an
+     * intermediate {@code byte[]}.
+     *
+     * @param data The value of the data.
+     * @return This builder.
+     * @throws NullPointerException     If {@code data} is null.
+     * @throws IllegalArgumentException If {@code data} exceeds the max size of 10,000,000 bytes (10MB).
+     * @since 4.54.0
+     */
+    @NotNull OutboundPubSubMessageBuilder dataView(@NotNull ByteBuffer data);
+
     /**
      * Set the data of the Google Cloud Pub/Sub message.
      *
@@ -158,14 +186,61 @@ public interface OutboundPubSubMessageBuilder {
      */
     @NotNull OutboundPubSubMessageBuilder orderingKey(@NotNull String orderingKey);
 
+    /**
+     * Encode the data of the Google Cloud Pub/Sub message with the given {@link PayloadCodec}, if the size of the data
+     * is at least {@code minimumSize} bytes.
+     * <p>
+     * The data is encoded when {@link #build()} is called. Encoded messages contain the
+     * {@link PayloadCodec#CONTENT_ENCODING_ATTRIBUTE} with the {@link PayloadCodec#getContentEncoding() content
+     * encoding} of the codec, which counts towards the max number of attributes. Smaller data is not encoded and no
+     * attribute is added.
+     *
+     * @param payloadCodec The {@link PayloadCodec} to encode the data with, e.g.
+     *                     {@link com.hivemq.extensions.google.cloud.pubsub.api.services.PayloadCodecs#gzip()}.
+     * @param minimumSize  The minimum size of the data in bytes to be encoded.
+     * @return This builder.
+     * @throws NullPointerException     If {@code payloadCodec} is null.
+     * @throws IllegalArgumentException If {@code minimumSize} is negative.
+     * @since 4.54.0
+     */
+    @NotNull OutboundPubSubMessageBuilder compression(@NotNull PayloadCodec payloadCodec, int minimumSize);
+
+    /**
+     * Presize the internal structure of the attributes for the given number of attributes. The attributes are stored
+     * in a flat array of keys and values that is kept by {@link #reset()} and reused for all messages built by this
+     * builder, so it only grows if a message has more attributes than expected. This is a hint only and does not limit
+     * the number of attributes.
+     * <p>
+     * By default, the structure is sized for 8 attributes.
+     *
+     * @param expectedAttributes The expected number of attributes per message.
+     * @return This builder.
+     * @throws IllegalArgumentException If {@code expectedAttributes} is negative or exceeds the max size of 100.
+     * @since 4.54.0
+     */
+    @NotNull OutboundPubSubMessageBuilder expectedAttributes(int expectedAttributes);
+
+    /**
+     * Clear the whole state of this builder, so it can be used to build the next message from scratch. The capacity
+     * reserved for attributes by previous messages is kept, so a reused builder does not allocate new internal
+     * structures for every message.
+     *
+     * @return This builder.
+     * @since 4.54.0
+     */
+    @NotNull OutboundPubSubMessageBuilder reset();
+
     /**
      * Create a new {@link OutboundPubSubMessage} from the current state of this builder. The builder can be reused
-     * afterwards.
+     * afterwards, the state of this builder is not changed by this method.
      *
      * @return A new {@link OutboundPubSubMessage} containing a snapshot of the current state of this builder.
      * @throws IllegalStateException If {@code topicName} was not set.
      * @throws IllegalStateException If {@code data} was not set and {@code attributes} is empty.
      * @throws IllegalStateException If the consequential request size exceeds the max size of 10,000,000 bytes (10MB).
+     * @throws IllegalStateException If the {@link PayloadCodec#CONTENT_ENCODING_ATTRIBUTE} added by the
+     *                               {@link #compression(PayloadCodec, int) compression} exceeds the max number of 100
+     *                               attributes.
      * @since 4.9.0
      */
     @NotNull OutboundPubSubMessage build();
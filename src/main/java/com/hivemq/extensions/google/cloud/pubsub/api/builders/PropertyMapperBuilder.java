@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.builders;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.AttributeLimitPolicy;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.PayloadCodec;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.PropertyMapper;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.PublishEnvelopeReader;
+
+import java.util.Set;
+
+/**
+ * The {@code PropertyMapperBuilder} enables the creation of a {@link PropertyMapper} via its fluent API.
+ * <p>
+ * The names used for allow and deny lists and for renaming are always the MQTT user property names. By default, all
+ * user properties are mapped with their names unchanged.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface PropertyMapperBuilder {
+
+    /**
+     * Only map the user properties with the given names. The previously allowed names are replaced.
+     *
+     * @param names The names of the user properties to map.
+     * @return This builder.
+     * @throws NullPointerException If {@code names} or any element of it is null.
+     * @since 4.54.0
+     */
+    @NotNull PropertyMapperBuilder allow(@NotNull Set<@NotNull String> names);
+
+    /**
+     * Never map the user properties with the given names. The deny list takes precedence over the allow list. The
+     * previously denied names are replaced.
+     *
+     * @param names The names of the user properties not to map.
+     * @return This builder.
+     * @throws NullPointerException If {@code names} or any element of it is null.
+     * @since 4.54.0
+     */
+    @NotNull PropertyMapperBuilder deny(@NotNull Set<@NotNull String> names);
+
+    /**
+     * Set the prefix that is added to the attribute keys. Only attributes with the prefix are mapped back to user
+     * properties.
+     * <p>
+     * By default, no prefix is used.
+     *
+     * @param attributePrefix The prefix of the attribute keys.
+     * @return This builder.
+     * @throws NullPointerException If {@code attributePrefix} is null.
+     * @since 4.54.0
+     */
+    @NotNull PropertyMapperBuilder attributePrefix(@NotNull String attributePrefix);
+
+    /**
+     * Map the user property with the given name to an attribute with a different key. The {@code attributePrefix} is
+     * not added to renamed attributes.
+     *
+     * @param userPropertyName The name of the user property.
+     * @param attributeKey     The key of the attribute.
+     * @return This builder.
+     * @throws NullPointerException     If {@code userPropertyName} or {@code attributeKey} is null.
+     * @throws IllegalArgumentException If {@code attributeKey} exceeds the max size of 256 bytes (UTF-8).
+     * @throws IllegalArgumentException If {@code attributeKey} is already used by another rename.
+     * @throws IllegalArgumentException If {@code attributeKey} is the reserved attribute
+     *                                  {@link PayloadCodec#CONTENT_ENCODING_ATTRIBUTE} or
+     *                                  {@link PublishEnvelopeReader#ENVELOPE_FORMAT_ATTRIBUTE}.
+     * @since 4.54.0
+     */
+    @NotNull PropertyMapperBuilder rename(@NotNull String userPropertyName, @NotNull String attributeKey);
+
+    /**
+     * Set the separator that joins the values of user properties that occur multiple times into one attribute value.
+     * <p>
+     * When a separator is set, every mapped value is escaped before it is joined: a backslash ({@code \}) is written
+     * as {@code \\} and an occurrence of the separator is prefixed with a backslash. In the inverse direction,
+     * every mapped attribute value is split at the unescaped separators and unescaped again, so all values round-trip
+     * unchanged. The escaped size of the values counts towards the max size of an attribute value.
+     * <p>
+     * By default, only the first value of a user property is mapped and values are not escaped.
+     *
+     * @param multiValueSeparator The separator between the values.
+     * @return This builder.
+     * @throws NullPointerException     If {@code multiValueSeparator} is null.
+     * @throws IllegalArgumentException If {@code multiValueSeparator} is empty or contains a backslash.
+     * @since 4.54.0
+     */
+    @NotNull PropertyMapperBuilder multiValueSeparator(@NotNull String multiValueSeparator);
+
+    /**
+     * Set the {@link AttributeLimitPolicy} for user properties that exceed the limits of Google Cloud Pub/Sub
+     * attributes.
+     * <p>
+     * The default is {@link AttributeLimitPolicy#DROP}.
+     *
+     * @param limitPolicy The {@link AttributeLimitPolicy}.
+     * @return This builder.
+     * @throws NullPointerException If {@code limitPolicy} is null.
+     * @since 4.54.0
+     */
+    @NotNull PropertyMapperBuilder limitPolicy(@NotNull AttributeLimitPolicy limitPolicy);
+
+    /**
+     * Create a new {@link PropertyMapper} from the current state of this builder. The builder can be reused
+     * afterwards.
+     * <p>
+     * All limits that can be known without a message are checked here: the attribute keys of the allowed user
+     * properties (including the {@code attributePrefix}) and of the renamed user properties must not exceed the max
+     * size of 256 bytes (UTF-8) and must not be a reserved attribute, see {@link PropertyMapper}. The limits of the
+     * values and of the number of attributes depend on the message and are checked while copying.
+     *
+     * @return A new {@link PropertyMapper}.
+     * @throws IllegalStateException If the attribute key of an allowed user property exceeds the max size of 256 bytes
+     *                               (UTF-8) or is a reserved attribute.
+     * @since 4.54.0
+     */
+    @NotNull PropertyMapper build();
+}
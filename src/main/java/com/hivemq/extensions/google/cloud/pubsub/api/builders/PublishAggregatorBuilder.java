@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.builders;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.PublishAggregator;
+
+import java.time.Duration;
+
+/**
+ * The {@code PublishAggregatorBuilder} enables the creation of a {@link PublishAggregator} via its fluent API.
+ * <p>
+ * Make sure that {@code topicName} is set before calling {@link PublishAggregatorBuilder#build()}. An envelope is
+ * published as soon as it contains {@code maxMessages} MQTT PUBLISHes, its size reaches {@code maxBytes} or its oldest
+ * MQTT PUBLISH was added {@code maxDelay} ago, whichever comes first.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface PublishAggregatorBuilder {
+
+    /**
+     * Set the name of the Google Cloud Pub/Sub topic the envelopes are published to. This is required to successfully
+     * build a {@link PublishAggregator}.
+     *
+     * @param topicName The name of the topic.
+     * @return This builder.
+     * @throws NullPointerException     If {@code topicName} is null.
+     * @throws IllegalArgumentException If {@code topicName} is not conform with the guidelines listed in
+     *                                  {@link OutboundPubSubMessageBuilder#topicName(String)}.
+     * @since 4.54.0
+     */
+    @NotNull PublishAggregatorBuilder topicName(@NotNull String topicName);
+
+    /**
+     * Set the orderingKey of the envelopes.
+     *
+     * @param orderingKey The orderingKey.
+     * @return This builder.
+     * @throws NullPointerException     If {@code orderingKey} is null.
+     * @throws IllegalArgumentException If {@code orderingKey} exceeds the max size of 1,024 bytes (UTF-8).
+     * @since 4.54.0
+     */
+    @NotNull PublishAggregatorBuilder orderingKey(@NotNull String orderingKey);
+
+    /**
+     * Set the maximum number of MQTT PUBLISHes per envelope.
+     * <p>
+     * The default is 1,000.
+     *
+     * @param maxMessages The maximum number of MQTT PUBLISHes per envelope.
+     * @return This builder.
+     * @throws IllegalArgumentException If {@code maxMessages} is less than 1.
+     * @since 4.54.0
+     */
+    @NotNull PublishAggregatorBuilder maxMessages(int maxMessages);
+
+    /**
+     * Set the maximum size of an envelope in bytes.
+     * <p>
+     * The default is 1,000,000 bytes (1MB).
+     *
+     * @param maxBytes The maximum size of an envelope in bytes.
+     * @return This builder.
+     * @throws IllegalArgumentException If {@code maxBytes} is less than 1 or exceeds the max size of 10,000,000 bytes
+     *                                  (10MB).
+     * @since 4.54.0
+     */
+    @NotNull PublishAggregatorBuilder maxBytes(int maxBytes);
+
+    /**
+     * Set the maximum time an MQTT PUBLISH is held back in an envelope before the envelope is published.
+     * <p>
+     * The default is 50 milliseconds.
+     *
+     * @param maxDelay The maximum delay.
+     * @return This builder.
+     * @throws NullPointerException     If {@code maxDelay} is null.
+     * @throws IllegalArgumentException If {@code maxDelay} is zero or negative.
+     * @since 4.54.0
+     */
+    @NotNull PublishAggregatorBuilder maxDelay(@NotNull Duration maxDelay);
+
+    /**
+     * Create a new {@link PublishAggregator} from the current state of this builder. The builder can be reused
+     * afterwards.
+     *
+     * @return A new {@link PublishAggregator}.
+     * @throws IllegalStateException If {@code topicName} was not set.
+     * @since 4.54.0
+     */
+    @NotNull PublishAggregator build();
+}
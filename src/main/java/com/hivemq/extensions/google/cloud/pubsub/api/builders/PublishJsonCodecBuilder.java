@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.builders;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.JsonPayloadEncoding;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.PublishJsonField;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.PublishJsonCodec;
+
+import java.util.Set;
+
+/**
+ * The {@code PublishJsonCodecBuilder} enables the creation of a {@link PublishJsonCodec} via its fluent API.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface PublishJsonCodecBuilder {
+
+    /**
+     * Set the {@link PublishJsonField}s that are written and read by the {@link PublishJsonCodec}. The previously set
+     * fields are replaced.
+     * <p>
+     * The default is {@link PublishJsonField#TOPIC}, {@link PublishJsonField#QOS}, {@link PublishJsonField#RETAIN},
+     * {@link PublishJsonField#PAYLOAD} and {@link PublishJsonField#USER_PROPERTIES}.
+     *
+     * @param fields The fields of the JSON representation.
+     * @return This builder.
+     * @throws NullPointerException     If {@code fields} or any element of it is null.
+     * @throws IllegalArgumentException If {@code fields} is empty.
+     * @since 4.54.0
+     */
+    @NotNull PublishJsonCodecBuilder fields(@NotNull Set<@NotNull PublishJsonField> fields);
+
+    /**
+     * Set the {@link JsonPayloadEncoding} of the MQTT payload.
+     * <p>
+     * The default is {@link JsonPayloadEncoding#BASE64}.
+     *
+     * @param payloadEncoding The encoding of the MQTT payload.
+     * @return This builder.
+     * @throws NullPointerException If {@code payloadEncoding} is null.
+     * @since 4.54.0
+     */
+    @NotNull PublishJsonCodecBuilder payloadEncoding(@NotNull JsonPayloadEncoding payloadEncoding);
+
+    /**
+     * Create a new {@link PublishJsonCodec} from the current state of this builder. The builder can be reused
+     * afterwards.
+     *
+     * @return A new {@link PublishJsonCodec}.
+     * @since 4.54.0
+     */
+    @NotNull PublishJsonCodec build();
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.builders;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.Sampler;
+
+import java.time.Duration;
+
+/**
+ * The {@code SamplerBuilder} enables the creation of a {@link Sampler} via its fluent API.
+ * <p>
+ * Make sure that {@code interval} is set before calling {@link SamplerBuilder#build()}.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface SamplerBuilder {
+
+    /**
+     * Set the minimum time between two accepted messages of the same key. This is required to successfully build a
+     * {@link Sampler}.
+     *
+     * @param interval The minimum time between two accepted messages.
+     * @return This builder.
+     * @throws NullPointerException     If {@code interval} is null.
+     * @throws IllegalArgumentException If {@code interval} is zero or negative.
+     * @since 4.54.0
+     */
+    @NotNull SamplerBuilder interval(@NotNull Duration interval);
+
+    /**
+     * Set the maximum number of keys that are sampled at the same time. While all slots are occupied by active keys,
+     * messages of further keys are accepted unsampled, see {@link Sampler}.
+     * <p>
+     * The default is 10,000.
+     *
+     * @param maxKeys The maximum number of keys.
+     * @return This builder.
+     * @throws IllegalArgumentException If {@code maxKeys} is less than 1.
+     * @since 4.54.0
+     */
+    @NotNull SamplerBuilder maxKeys(int maxKeys);
+
+    /**
+     * Create a new {@link Sampler} from the current state of this builder. The builder can be reused afterwards, every
+     * built sampler has its own state.
+     *
+     * @return A new {@link Sampler}.
+     * @throws IllegalStateException If {@code interval} was not set.
+     * @since 4.54.0
+     */
+    @NotNull Sampler build();
+}
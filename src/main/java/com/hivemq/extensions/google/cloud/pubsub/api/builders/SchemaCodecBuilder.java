@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.builders;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.CustomSettings;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.SchemaType;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.SchemaCodec;
+
+/**
+ * The {@code SchemaCodecBuilder} enables the creation of a {@link SchemaCodec} via its fluent API.
+ * <p>
+ * Make sure that {@code schema} is set before calling {@link SchemaCodecBuilder#build()}. The schema is compiled when
+ * {@link SchemaCodecBuilder#build()} is called, so invalid schemas are detected during the initialization of the
+ * transformer.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface SchemaCodecBuilder {
+
+    /**
+     * Set the schema. This is required to successfully build a {@link SchemaCodec}.
+     *
+     * @param schemaType The {@link SchemaType} of the schema.
+     * @param definition The definition of the schema, as it is attached to the Google Cloud Pub/Sub topic.
+     * @return This builder.
+     * @throws NullPointerException If {@code schemaType} or {@code definition} is null.
+     * @since 4.54.0
+     */
+    @NotNull SchemaCodecBuilder schema(@NotNull SchemaType schemaType, @NotNull String definition);
+
+    /**
+     * Read the schema from the custom settings {@code <name>-type}, which must contain a {@link SchemaType}, and
+     * {@code <name>-definition}.
+     *
+     * @param customSettings The {@link CustomSettings} to read the schema from.
+     * @param name           The name prefix of the custom settings.
+     * @return This builder.
+     * @throws NullPointerException     If {@code customSettings} or {@code name} is null.
+     * @throws IllegalArgumentException If any of the custom settings is missing or the type is invalid.
+     * @since 4.54.0
+     */
+    @NotNull SchemaCodecBuilder schema(@NotNull CustomSettings customSettings, @NotNull String name);
+
+    /**
+     * Set the fully qualified name of the message type of a {@link SchemaType#PROTOCOL_BUFFER} schema.
+     * <p>
+     * By default, the first message type of the definition is used, as Google Cloud Pub/Sub does.
+     *
+     * @param messageType The fully qualified name of the message type.
+     * @return This builder.
+     * @throws NullPointerException If {@code messageType} is null.
+     * @since 4.54.0
+     */
+    @NotNull SchemaCodecBuilder messageType(@NotNull String messageType);
+
+    /**
+     * Compile a new {@link SchemaCodec} from the current state of this builder. The builder can be reused afterwards.
+     *
+     * @return A new {@link SchemaCodec}.
+     * @throws IllegalStateException If {@code schema} was not set.
+     * @throws IllegalStateException If the schema definition is invalid or the {@code messageType} is not defined by
+     *                               it.
+     * @since 4.54.0
+     */
+    @NotNull SchemaCodec build();
+}
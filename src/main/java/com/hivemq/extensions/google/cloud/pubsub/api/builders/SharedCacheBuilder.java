@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.builders;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.CacheLoader;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.SharedCache;
+
+import java.time.Duration;
+
+/**
+ * The {@code SharedCacheBuilder} enables the creation of a {@link SharedCache} via its fluent API.
+ * <p>
+ * Make sure that {@code loader} is set before calling {@link SharedCacheBuilder#build()}.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface SharedCacheBuilder<K, V> {
+
+    /**
+     * Set the maximum number of entries of the cache. If the cache is full, the least recently used entries are
+     * evicted.
+     * <p>
+     * The default is 10,000.
+     *
+     * @param maximumSize The maximum number of entries.
+     * @return This builder.
+     * @throws IllegalArgumentException If {@code maximumSize} is less than 1.
+     * @since 4.54.0
+     */
+    @NotNull SharedCacheBuilder<K, V> maximumSize(long maximumSize);
+
+    /**
+     * Set the time after which an entry expires after it was loaded or put.
+     * <p>
+     * The default is 1 hour.
+     *
+     * @param expireAfterWrite The time after which an entry expires.
+     * @return This builder.
+     * @throws NullPointerException     If {@code expireAfterWrite} is null.
+     * @throws IllegalArgumentException If {@code expireAfterWrite} is zero or negative.
+     * @since 4.54.0
+     */
+    @NotNull SharedCacheBuilder<K, V> expireAfterWrite(@NotNull Duration expireAfterWrite);
+
+    /**
+     * Set the time after which an entry is reloaded in the background on access. It must be shorter than the time
+     * set via {@link #expireAfterWrite(Duration)}.
+     * <p>
+     * By default, entries are not refreshed.
+     *
+     * @param refreshAfterWrite The time after which an entry is refreshed.
+     * @return This builder.
+     * @throws NullPointerException     If {@code refreshAfterWrite} is null.
+     * @throws IllegalArgumentException If {@code refreshAfterWrite} is zero or negative.
+     * @since 4.54.0
+     */
+    @NotNull SharedCacheBuilder<K, V> refreshAfterWrite(@NotNull Duration refreshAfterWrite);
+
+    /**
+     * Set the {@link CacheLoader} of the cache. This is required to successfully build a {@link SharedCache}.
+     *
+     * @param loader The {@link CacheLoader}.
+     * @return This builder.
+     * @throws NullPointerException If {@code loader} is null.
+     * @since 4.54.0
+     */
+    @NotNull SharedCacheBuilder<K, V> loader(@NotNull CacheLoader<K, V> loader);
+
+    /**
+     * Create the {@link SharedCache} from the current state of this builder, or return the existing cache with the
+     * same name. In both cases, the {@code loader} is registered with the cache for the calling transformer, see
+     * {@link com.hivemq.extensions.google.cloud.pubsub.api.services.CacheService CacheService}.
+     *
+     * @return The {@link SharedCache} with the name of this builder.
+     * @throws IllegalStateException If {@code loader} was not set.
+     * @throws IllegalStateException If {@code refreshAfterWrite} is not shorter than {@code expireAfterWrite}.
+     * @throws IllegalStateException If a cache with the same name exists with a different {@code maximumSize},
+     *                               {@code expireAfterWrite} or {@code refreshAfterWrite}.
+     * @since 4.54.0
+     */
+    @NotNull SharedCache<K, V> build();
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.builders;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.CustomSettings;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.TopicRouter;
+
+/**
+ * The {@code TopicRouterBuilder} enables the creation of a {@link TopicRouter} via its fluent API.
+ * <p>
+ * A route consists of an MQTT topic filter and a Google Cloud Pub/Sub topic name template, e.g.
+ * {@code factory/{site}/+/temp -> telemetry-{site}}. Besides the MQTT wildcards {@code +} and {@code #}, the topic
+ * filter can contain named single-level wildcards in the form {@code {name}}. The value of the matching topic level is
+ * inserted for every {@code {name}} of the topic name template.
+ * <p>
+ * If multiple routes match a topic, the most specific route is used. Routes are compared level by level: a literal
+ * topic level takes precedence over a single-level wildcard, which takes precedence over a multi-level wildcard. If
+ * resolving a topic results in a topic name that does not conform with the guidelines of
+ * {@link OutboundPubSubMessageBuilder#topicName(String)}, the route does not match that topic.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface TopicRouterBuilder {
+
+    /**
+     * Add a route from an MQTT topic filter to a Google Cloud Pub/Sub topic name template.
+     *
+     * @param mqttTopicFilter   The MQTT topic filter, which may contain {@code +}, {@code #} and named single-level
+     *                          wildcards.
+     * @param topicNameTemplate The template of the Google Cloud Pub/Sub topic name, which may reference the named
+     *                          single-level wildcards of the {@code mqttTopicFilter}.
+     * @return This builder.
+     * @throws NullPointerException     If {@code mqttTopicFilter} or {@code topicNameTemplate} is null.
+     * @throws IllegalArgumentException If {@code mqttTopicFilter} is not a valid MQTT topic filter.
+     * @throws IllegalArgumentException If {@code topicNameTemplate} references a name that is not defined by the
+     *                                  {@code mqttTopicFilter}.
+     * @throws IllegalArgumentException If a route with the same {@code mqttTopicFilter} was already added.
+     * @since 4.54.0
+     */
+    @NotNull TopicRouterBuilder route(@NotNull String mqttTopicFilter, @NotNull String topicNameTemplate);
+
+    /**
+     * Add all routes that are configured as custom settings with the given {@code name}. Every value must have the
+     * format {@code <mqtt-topic-filter> -> <topic-name-template>}.
+     *
+     * @param customSettings The {@link CustomSettings} to read the routes from.
+     * @param name           The name of the custom settings that contain the routes.
+     * @return This builder.
+     * @throws NullPointerException     If {@code customSettings} or {@code name} is null.
+     * @throws IllegalArgumentException If any of the custom setting values is not a valid route. See
+     *                                  {@link #route(String, String)}.
+     * @since 4.54.0
+     */
+    @NotNull TopicRouterBuilder routes(@NotNull CustomSettings customSettings, @NotNull String name);
+
+    /**
+     * Set the maximum number of resolved Google Cloud Pub/Sub topic names that are cached by the {@link TopicRouter}.
+     * <p>
+     * The default is 10,000.
+     *
+     * @param maxCachedTopics The maximum number of cached topic names, {@code 0} disables the cache.
+     * @return This builder.
+     * @throws IllegalArgumentException If {@code maxCachedTopics} is negative.
+     * @since 4.54.0
+     */
+    @NotNull TopicRouterBuilder maxCachedTopics(int maxCachedTopics);
+
+    /**
+     * Create a new {@link TopicRouter} from the current state of this builder. The builder can be reused afterwards.
+     *
+     * @return A new {@link TopicRouter} containing a snapshot of the routes of this builder.
+     * @since 4.54.0
+     */
+    @NotNull TopicRouter build();
+}
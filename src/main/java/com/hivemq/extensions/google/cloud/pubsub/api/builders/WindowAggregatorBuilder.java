@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.builders;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.WindowAggregator;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.WindowResultHandler;
+
+import java.time.Duration;
+
+/**
+ * The {@code WindowAggregatorBuilder} enables the creation of a {@link WindowAggregator} via its fluent API.
+ * <p>
+ * Make sure that a window and the {@code resultHandler} are set before calling
+ * {@link WindowAggregatorBuilder#build()}.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface WindowAggregatorBuilder {
+
+    /**
+     * Use non-overlapping windows of the given size. Every value belongs to exactly one window.
+     *
+     * @param size The size of the windows.
+     * @return This builder.
+     * @throws NullPointerException     If {@code size} is null.
+     * @throws IllegalArgumentException If {@code size} is less than 10 milliseconds.
+     * @since 4.54.0
+     */
+    @NotNull WindowAggregatorBuilder tumblingWindow(@NotNull Duration size);
+
+    /**
+     * Use overlapping windows of the given size that start every {@code advance}. A value belongs to every window that
+     * covers the time it was added.
+     *
+     * @param size    The size of the windows.
+     * @param advance The time between the starts of two windows.
+     * @return This builder.
+     * @throws NullPointerException     If {@code size} or {@code advance} is null.
+     * @throws IllegalArgumentException If {@code advance} is less than 10 milliseconds, greater than {@code size} or
+     *                                  {@code size} is not a multiple of {@code advance}.
+     * @since 4.54.0
+     */
+    @NotNull WindowAggregatorBuilder slidingWindow(@NotNull Duration size, @NotNull Duration advance);
+
+    /**
+     * Set the maximum number of keys that are aggregated at the same time. The slots for the keys are allocated when
+     * the {@link WindowAggregator} is built. Slots of keys without values for a whole window are released, see
+     * {@link WindowAggregator}.
+     * <p>
+     * The default is 10,000.
+     *
+     * @param maxKeys The maximum number of keys.
+     * @return This builder.
+     * @throws IllegalArgumentException If {@code maxKeys} is less than 1.
+     * @since 4.54.0
+     */
+    @NotNull WindowAggregatorBuilder maxKeys(int maxKeys);
+
+    /**
+     * Set the {@link WindowResultHandler} that is called for the results of every closed window. This is required to
+     * successfully build a {@link WindowAggregator}.
+     *
+     * @param resultHandler The {@link WindowResultHandler}.
+     * @return This builder.
+     * @throws NullPointerException If {@code resultHandler} is null.
+     * @since 4.54.0
+     */
+    @NotNull WindowAggregatorBuilder resultHandler(@NotNull WindowResultHandler resultHandler);
+
+    /**
+     * Create a new {@link WindowAggregator} from the current state of this builder. The builder can be reused
+     * afterwards, every built aggregator has its own state.
+     *
+     * @return A new {@link WindowAggregator}.
+     * @throws IllegalStateException If no window was set.
+     * @throws IllegalStateException If {@code resultHandler} was not set.
+     * @since 4.54.0
+     */
+    @NotNull WindowAggregator build();
+}
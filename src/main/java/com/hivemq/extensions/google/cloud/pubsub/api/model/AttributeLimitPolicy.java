@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.model;
+
+/**
+ * Defines how a {@link com.hivemq.extensions.google.cloud.pubsub.api.services.PropertyMapper} handles MQTT user
+ * properties that exceed the limits of Google Cloud Pub/Sub attributes (key 256 bytes, value 1,024 bytes, 100
+ * attributes per message). The size of a value is the size after joining and escaping multiple values. One attribute
+ * per message is reserved for the
+ * {@link com.hivemq.extensions.google.cloud.pubsub.api.services.PayloadCodec#CONTENT_ENCODING_ATTRIBUTE}.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+public enum AttributeLimitPolicy {
+
+    /**
+     * Values that are too long are truncated to the max size at a UTF-8 character boundary. Joined values are
+     * truncated by removing whole values from the end, so the escaping stays intact. Keys that are too long and
+     * attributes beyond the max number are dropped.
+     *
+     * @since 4.54.0
+     */
+    TRUNCATE,
+
+    /**
+     * Attributes with a key or value that is too long and attributes beyond the max number are dropped.
+     *
+     * @since 4.54.0
+     */
+    DROP,
+
+    /**
+     * An {@link IllegalArgumentException} is thrown if any limit is exceeded and no attribute is set.
+     *
+     * @since 4.54.0
+     */
+    REJECT
+}
@@ -20,13 +20,22 @@ import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
 import com.hivemq.extension.sdk.api.annotations.Immutable;
 import com.hivemq.extension.sdk.api.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 /**
  * This interface provides information about {@code <custom-settings>} as it is configured in the
  * {@code google-cloud-pubsub-configuration.xml}.
+ * <p>
+ * The custom settings are indexed by name when the configuration is read, so {@link #getFirst(String)},
+ * {@link #getAllForName(String)} and all typed accessors take constant time regardless of the number of custom
+ * settings. The typed accessors parse a value only once and return the cached result for subsequent calls. Call them
+ * in {@link com.hivemq.extensions.google.cloud.pubsub.api.transformers.Transformer#init Transformer.init} to validate
+ * the custom settings at initialization time.
  *
  * @author Florian Limpöck
  * @author Mario Schwede
@@ -43,6 +52,83 @@ public interface CustomSettings {
      */
     @NotNull Optional<String> getFirst(@NotNull String name);
 
+    /**
+     * @param name The name of the custom setting to get.
+     * @return An {@link OptionalInt} that contains the first custom setting with the specified name parsed as a
+     *         decimal {@code int}.
+     * @throws IllegalArgumentException If the value can not be parsed as an {@code int}.
+     * @since 4.54.0
+     */
+    @NotNull OptionalInt getInt(@NotNull String name);
+
+    /**
+     * @param name The name of the custom setting to get.
+     * @return An {@link OptionalLong} that contains the first custom setting with the specified name parsed as a
+     *         decimal {@code long}.
+     * @throws IllegalArgumentException If the value can not be parsed as a {@code long}.
+     * @since 4.54.0
+     */
+    @NotNull OptionalLong getLong(@NotNull String name);
+
+    /**
+     * The values {@code true} and {@code false} are accepted, case is ignored.
+     *
+     * @param name The name of the custom setting to get.
+     * @return An {@link Optional} that contains the first custom setting with the specified name parsed as a
+     *         {@code boolean}.
+     * @throws IllegalArgumentException If the value is neither {@code true} nor {@code false}.
+     * @since 4.54.0
+     */
+    @NotNull Optional<Boolean> getBoolean(@NotNull String name);
+
+    /**
+     * Durations can either be specified in the ISO-8601 format (e.g. {@code PT0.05S}) or as a number followed by one of
+     * the units {@code ms}, {@code s}, {@code m}, {@code h} or {@code d} (e.g. {@code 50ms}).
+     *
+     * @param name The name of the custom setting to get.
+     * @return An {@link Optional} that contains the first custom setting with the specified name parsed as a
+     *         {@link Duration}.
+     * @throws IllegalArgumentException If the value can not be parsed as a {@link Duration} or is negative.
+     * @since 4.54.0
+     */
+    @NotNull Optional<Duration> getDuration(@NotNull String name);
+
+    /**
+     * Byte sizes can be specified as a number optionally followed by one of the units {@code B}, {@code KB},
+     * {@code MB} or {@code GB} (e.g. {@code 64KB}). The units are based on 1,024 and their case is ignored.
+     *
+     * @param name The name of the custom setting to get.
+     * @return An {@link OptionalLong} that contains the first custom setting with the specified name parsed as a
+     *         number of bytes.
+     * @throws IllegalArgumentException If the value can not be parsed as a byte size or is negative.
+     * @since 4.54.0
+     */
+    @NotNull OptionalLong getByteSize(@NotNull String name);
+
+    /**
+     * The value must match the name of one of the constants of the {@code enumType}, case is ignored.
+     *
+     * @param name     The name of the custom setting to get.
+     * @param enumType The type of the enum to parse the value to.
+     * @param <E>      The type of the enum.
+     * @return An {@link Optional} that contains the first custom setting with the specified name parsed as a constant
+     *         of the {@code enumType}.
+     * @throws IllegalArgumentException If the value does not match any constant of the {@code enumType}.
+     * @since 4.54.0
+     */
+    <E extends Enum<E>> @NotNull Optional<E> getEnum(@NotNull String name, @NotNull Class<E> enumType);
+
+    /**
+     * The first custom setting with the specified name is split at every comma. Leading and trailing whitespace is
+     * removed from the elements and empty elements are omitted.
+     *
+     * @param name The name of the custom setting to get.
+     * @return The elements of the first custom setting with the specified name. The list is empty if no custom setting
+     *         with the specified name is present.
+     * @since 4.54.0
+     */
+    @Immutable @NotNull List<@NotNull String> getList(@NotNull String name);
+
     /**
      * @param name The name of the custom settings to get.
      * @return The values custom setting with the specified name.
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.model;
+
+/**
+ * The encoding of the MQTT payload in the JSON representation of a
+ * {@link com.hivemq.extensions.google.cloud.pubsub.api.services.PublishJsonCodec}.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+public enum JsonPayloadEncoding {
+
+    /**
+     * The payload is written as a Base64 encoded string. Any payload can be represented.
+     *
+     * @since 4.54.0
+     */
+    BASE64,
+
+    /**
+     * The payload is written as a UTF-8 string. Payloads that are not valid UTF-8 are written Base64 encoded instead
+     * and the field {@code payloadEncoding} with the value {@code base64} is added.
+     *
+     * @since 4.54.0
+     */
+    UTF_8
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.model;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.Immutable;
+
+/**
+ * A snapshot of the load of the destination the output of a transformer is published to. For MQTT to Google Cloud
+ * Pub/Sub transformers this is the Google Cloud Pub/Sub publisher, for Google Cloud Pub/Sub to MQTT transformers this
+ * is HiveMQ.
+ * <p>
+ * Transformers can use the load status to shed, downsample or coarsen their output under pressure, before the pending
+ * messages exhaust the memory of the HiveMQ node.
+ * <p>
+ * The internal state of this interface is immutable.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@Immutable
+@DoNotImplement
+public interface LoadStatus {
+
+    /**
+     * @return The number of messages that were handed over by transformers but are not published yet.
+     * @since 4.54.0
+     */
+    long getPendingMessages();
+
+    /**
+     * @return The size in bytes of the messages that were handed over by transformers but are not published yet.
+     * @since 4.54.0
+     */
+    long getPendingBytes();
+
+    /**
+     * The saturation is the ratio of the pending messages and bytes to the configured limits of the "HiveMQ Enterprise
+     * Extension for Google Cloud Pub/Sub", whichever is higher. At a saturation of {@code 1.0} further messages are
+     * rejected or delayed by the extension.
+     *
+     * @return The saturation between {@code 0.0} (idle) and {@code 1.0} (saturated).
+     * @since 4.54.0
+     */
+    double getSaturation();
+}
@@ -19,7 +19,9 @@ package com.hivemq.extensions.google.cloud.pubsub.api.model;
 import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
 import com.hivemq.extension.sdk.api.annotations.Immutable;
 import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.services.builder.PublishBuilder;
 
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Optional;
@@ -29,7 +31,7 @@ import java.util.Optional;
  * <p>
  * The internal state of this interface is immutable.
  * <ul>
- * <li>Every returned {@link ByteBuffer} is read only.</li>
+ * <li>Every returned {@link ByteBuffer} is read only and shares the data of this message.</li>
  * <li>Every returned  {@code byte[]} is a defensive copy.</li>
  * </ul>
  *
@@ -48,11 +50,42 @@ public interface PubSubMessage {
     @Immutable @NotNull Map<String, String> getAttributes();
 
     /**
+     * Get a single attribute without creating the {@link Map} of {@link #getAttributes()}.
+     *
+     * @param key The key of the attribute.
+     * @return An {@link Optional} that contains the value of the attribute with the specified key.
+     * @since 4.54.0
+     */
+    @NotNull Optional<String> getAttribute(@NotNull String key);
+
+    /**
+     * The returned {@link ByteBuffer} is a read only view of the data of this message, the data is not copied. It can
+     * be passed on as is, e.g. to {@link PublishBuilder#payload(ByteBuffer)}.
+     * <p>
+     * The data is not decoded according to the
+     * {@link com.hivemq.extensions.google.cloud.pubsub.api.services.PayloadCodec#CONTENT_ENCODING_ATTRIBUTE}, use
+     * {@link com.hivemq.extensions.google.cloud.pubsub.api.services.PayloadCodecs#decode(PubSubMessage)} to get the
+     * decoded data.
+     *
      * @return An {@link Optional} of the data of this message.
      * @since 4.9.0
      */
     @NotNull Optional<@Immutable ByteBuffer> getData();
 
+    /**
+     * The returned {@link InputStream} reads the data of this message without copying it.
+     *
+     * @return An {@link Optional} of an {@link InputStream} of the data of this message.
+     * @since 4.54.0
+     */
+    @NotNull Optional<InputStream> getDataAsInputStream();
+
+    /**
+     * @return The size of the data of this message in bytes, {@code 0} if this message has no data.
+     * @since 4.54.0
+     */
+    int getDataSize();
+
     /**
      * @return An {@link Optional} of the data of this message.
      * @since 4.9.0
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.model;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.Immutable;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.packets.general.Qos;
+import com.hivemq.extension.sdk.api.packets.general.UserProperties;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * Represents one MQTT PUBLISH that is contained in an envelope created by a
+ * {@link com.hivemq.extensions.google.cloud.pubsub.api.services.PublishAggregator}.
+ * <p>
+ * A record is a view of the envelope data and is only valid during the callback it is passed to. It must not be
+ * stored or used afterwards. Every returned {@link ByteBuffer} is read only and shares the memory of the envelope.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface PublishEnvelopeRecord {
+
+    /**
+     * @return The topic of the MQTT PUBLISH.
+     * @since 4.54.0
+     */
+    @NotNull String getTopic();
+
+    /**
+     * @return The QoS of the MQTT PUBLISH.
+     * @since 4.54.0
+     */
+    @NotNull Qos getQos();
+
+    /**
+     * @return The retain flag of the MQTT PUBLISH.
+     * @since 4.54.0
+     */
+    boolean getRetain();
+
+    /**
+     * @return An {@link Optional} of a read only view of the payload of the MQTT PUBLISH.
+     * @since 4.54.0
+     */
+    @NotNull Optional<@Immutable ByteBuffer> getPayload();
+
+    /**
+     * @return The user properties of the MQTT PUBLISH.
+     * @since 4.54.0
+     */
+    @Immutable @NotNull UserProperties getUserProperties();
+
+    /**
+     * @return The timestamp in milliseconds from epoch when the MQTT PUBLISH arrived at HiveMQ.
+     * @since 4.54.0
+     */
+    long getTimestamp();
+}
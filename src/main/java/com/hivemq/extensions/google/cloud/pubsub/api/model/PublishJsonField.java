@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.model;
+
+/**
+ * The fields of an MQTT PUBLISH that can be written to and read from the JSON representation of a
+ * {@link com.hivemq.extensions.google.cloud.pubsub.api.services.PublishJsonCodec}.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+public enum PublishJsonField {
+
+    /**
+     * The topic, written as the string field {@code topic}.
+     *
+     * @since 4.54.0
+     */
+    TOPIC,
+
+    /**
+     * The QoS, written as the number field {@code qos}.
+     *
+     * @since 4.54.0
+     */
+    QOS,
+
+    /**
+     * The retain flag, written as the boolean field {@code retain}.
+     *
+     * @since 4.54.0
+     */
+    RETAIN,
+
+    /**
+     * The payload, written as the string field {@code payload} in the configured {@link JsonPayloadEncoding}.
+     *
+     * @since 4.54.0
+     */
+    PAYLOAD,
+
+    /**
+     * The user properties, written as the array field {@code userProperties} of objects with the string fields
+     * {@code name} and {@code value}.
+     *
+     * @since 4.54.0
+     */
+    USER_PROPERTIES,
+
+    /**
+     * The content type, written as the string field {@code contentType}.
+     *
+     * @since 4.54.0
+     */
+    CONTENT_TYPE,
+
+    /**
+     * The response topic, written as the string field {@code responseTopic}.
+     *
+     * @since 4.54.0
+     */
+    RESPONSE_TOPIC,
+
+    /**
+     * The correlation data, written as the Base64 encoded string field {@code correlationData}.
+     *
+     * @since 4.54.0
+     */
+    CORRELATION_DATA,
+
+    /**
+     * The message expiry interval in seconds, written as the number field {@code messageExpiryInterval}.
+     *
+     * @since 4.54.0
+     */
+    MESSAGE_EXPIRY_INTERVAL,
+
+    /**
+     * The payload format indicator, written as the string field {@code payloadFormatIndicator}.
+     *
+     * @since 4.54.0
+     */
+    PAYLOAD_FORMAT_INDICATOR,
+
+    /**
+     * The timestamp in milliseconds from epoch when the MQTT PUBLISH arrived at HiveMQ, written as the number field
+     * {@code timestamp}. This field is only written, it is ignored when reading.
+     *
+     * @since 4.54.0
+     */
+    TIMESTAMP
+}
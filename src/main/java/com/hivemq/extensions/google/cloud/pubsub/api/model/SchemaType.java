@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.model;
+
+/**
+ * The types of schemas that can be attached to Google Cloud Pub/Sub topics.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+public enum SchemaType {
+
+    /**
+     * An Apache Avro schema in its JSON definition.
+     *
+     * @since 4.54.0
+     */
+    AVRO,
+
+    /**
+     * A Protocol Buffer schema in its {@code .proto} definition.
+     *
+     * @since 4.54.0
+     */
+    PROTOCOL_BUFFER
+}
@@ -18,10 +18,15 @@ package com.hivemq.extensions.google.cloud.pubsub.api.model;
 
 import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
 import com.hivemq.extension.sdk.api.annotations.Immutable;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+
+import java.time.Instant;
 
 /**
  * Timestamp that represents a point in time from epoch (UTC 00:00:00 01.01.1970), encoded as a count of seconds and
  * fractions of seconds at nanosecond resolution.
+ * <p>
+ * Timestamps are ordered chronologically by {@link #compareTo(Timestamp)}.
  *
  * @author Florian Limpöck
  * @author Mario Schwede
@@ -29,7 +34,7 @@ import com.hivemq.extension.sdk.api.annotations.Immutable;
  */
 @Immutable
 @DoNotImplement
-public interface Timestamp {
+public interface Timestamp extends Comparable<Timestamp> {
 
     /**
      * @return Count of seconds from epoch.
@@ -48,4 +53,40 @@ public interface Timestamp {
      * @since 4.9.0
      */
     long toMillis();
+
+    /**
+     * This conversion does not allocate.
+     *
+     * @return Count of microseconds from epoch. The applied conversion truncates, so precision is lost.
+     * @since 4.54.0
+     */
+    long toMicros();
+
+    /**
+     * This conversion does not allocate. A {@code long} can hold nanoseconds from epoch until the year 2262.
+     *
+     * @return Count of nanoseconds from epoch.
+     * @throws ArithmeticException If the count of nanoseconds overflows a {@code long}.
+     * @since 4.54.0
+     */
+    long toNanos();
+
+    /**
+     * @return An {@link Instant} representing the same point in time.
+     * @since 4.54.0
+     */
+    @NotNull Instant toInstant();
+
+    /**
+     * Compare the point in time of this timestamp with the one of the {@code other} timestamp, first by the seconds and
+     * then by the nanoseconds.
+     *
+     * @param other The timestamp to compare with.
+     * @return A negative number, zero or a positive number if this timestamp is before, at the same point in time or
+     *         after the {@code other} timestamp.
+     * @throws NullPointerException If {@code other} is null.
+     * @since 4.54.0
+     */
+    @Override
+    int compareTo(@NotNull Timestamp other);
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.model;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.Immutable;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+
+/**
+ * This interface provides the names of the metrics the HiveMQ Enterprise Extension for Google Cloud Pub/Sub records
+ * for every transformer in the {@link com.codahale.metrics.MetricRegistry} of the HiveMQ node.
+ * <p>
+ * The metrics are recorded around every transformer call without any code in the transformer. All names start with the
+ * {@link #getMetricPrefix() metric prefix} of the transformer, which contains the {@link PubSubConnection#getId()} the
+ * transformer is associated with and the configured id of the transformer. The names are therefore identical on all
+ * HiveMQ nodes of a cluster. Counters are striped, so recording does not cause contention between concurrent
+ * transformer calls. Latencies are recorded in histograms with a high dynamic range reservoir at microsecond
+ * resolution.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@Immutable
+@DoNotImplement
+public interface TransformerMetrics {
+
+    /**
+     * The prefix has the format {@code com.hivemq.extensions.gcp-pubsub.transformer.<pubsub-connection-id>.<id>},
+     * where {@code <id>} is the configured id of the {@code <mqtt-to-pubsub-transformer>} or
+     * {@code <pubsub-to-mqtt-transformer>} tag. The prefix is therefore unique for every transformer instance, even if
+     * the same transformer class is referenced multiple times. Own metrics of the transformer can be registered with
+     * this prefix to be grouped together with the recorded metrics.
+     *
+     * @return The prefix of all metric names of the transformer.
+     * @since 4.54.0
+     */
+    @NotNull String getMetricPrefix();
+
+    /**
+     * @return The name of the {@link com.codahale.metrics.Histogram} that records the latency of every transformer
+     *         call in microseconds.
+     * @since 4.54.0
+     */
+    @NotNull String getInvocationLatencyName();
+
+    /**
+     * One value is recorded per input, with the number of messages set for it via {@code setOutboundPubSubMessages}
+     * or {@code setPublishes}. The
+     * {@link com.hivemq.extensions.google.cloud.pubsub.api.transformers.MqttToPubSubBatchOutput} sets the messages for
+     * the whole batch, so one value is recorded per batch call with the number of messages of the batch. Messages that
+     * are published outside of the outputs are not part of the fan-out, see {@link #getEmittedMessagesName()}.
+     *
+     * @return The name of the {@link com.codahale.metrics.Histogram} that records the number of messages set as output
+     *         per input.
+     * @since 4.54.0
+     */
+    @NotNull String getFanOutName();
+
+    /**
+     * @return The name of the {@link com.codahale.metrics.Counter} that records the payload bytes of all inputs of the
+     *         transformer.
+     * @since 4.54.0
+     */
+    @NotNull String getPayloadBytesInName();
+
+    /**
+     * @return The name of the {@link com.codahale.metrics.Counter} that records the payload bytes of all messages set
+     *         as output of the transformer and of all emitted messages, see {@link #getEmittedMessagesName()}.
+     * @since 4.54.0
+     */
+    @NotNull String getPayloadBytesOutName();
+
+    /**
+     * Emitted messages are all messages that are published on behalf of the transformer outside of its outputs: the
+     * messages published via
+     * {@link com.hivemq.extensions.google.cloud.pubsub.api.transformers.MqttToPubSubInitInput#getMqttToPubSubEmitter()}
+     * and
+     * {@link com.hivemq.extensions.google.cloud.pubsub.api.transformers.PubSubToMqttInitInput#getPubSubToMqttEmitter()}
+     * (including the results of the
+     * {@link com.hivemq.extensions.google.cloud.pubsub.api.services.WindowResultHandler}s) and the envelopes of the
+     * {@link com.hivemq.extensions.google.cloud.pubsub.api.services.PublishAggregator}s of the transformer.
+     *
+     * @return The name of the {@link com.codahale.metrics.Counter} that records the number of emitted messages of the
+     *         transformer.
+     * @since 4.54.0
+     */
+    @NotNull String getEmittedMessagesName();
+
+    /**
+     * @return The name of the {@link com.codahale.metrics.Counter} that records the number of exceptions thrown by the
+     *         transformer.
+     * @since 4.54.0
+     */
+    @NotNull String getExceptionCountName();
+
+    /**
+     * Only recorded for Google Cloud Pub/Sub to MQTT transformers.
+     *
+     * @param subscriptionName The name of the subscription, see {@link InboundPubSubMessage#getSubscriptionName()}.
+     * @return The name of the {@link com.codahale.metrics.Histogram} that records the time in microseconds from the
+     *         {@link InboundPubSubMessage#getPublishTime() publish time} of a message of the subscription until the
+     *         transformer is called with it.
+     * @since 4.54.0
+     */
+    @NotNull String getTransformerLagName(@NotNull String subscriptionName);
+
+    /**
+     * Only recorded for Google Cloud Pub/Sub to MQTT transformers.
+     *
+     * @param subscriptionName The name of the subscription, see {@link InboundPubSubMessage#getSubscriptionName()}.
+     * @return The name of the {@link com.codahale.metrics.Histogram} that records the time in microseconds from the
+     *         {@link InboundPubSubMessage#getPublishTime() publish time} of a message of the subscription until the
+     *         publishes of the transformer are handed over to HiveMQ.
+     * @since 4.54.0
+     */
+    @NotNull String getDeliveryLagName(@NotNull String subscriptionName);
+
+    /**
+     * Only recorded for MQTT to Google Cloud Pub/Sub transformers.
+     *
+     * @return The name of the {@link com.codahale.metrics.Counter} that records the number of values that were rejected
+     *         by the {@link com.hivemq.extensions.google.cloud.pubsub.api.services.WindowAggregator}s of the
+     *         transformer, because all slots for keys were occupied.
+     * @since 4.54.0
+     */
+    @NotNull String getWindowRejectedValuesName();
+
+    /**
+     * Only recorded for MQTT to Google Cloud Pub/Sub transformers.
+     *
+     * @return The name of the {@link com.codahale.metrics.Counter} that records the number of messages that were
+     *         accepted unsampled by the {@link com.hivemq.extensions.google.cloud.pubsub.api.services.Sampler}s of the
+     *         transformer, because all slots for keys were occupied.
+     * @since 4.54.0
+     */
+    @NotNull String getSamplerUnsampledName();
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.model;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.Immutable;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+
+/**
+ * The aggregated values of one key in one closed window of a
+ * {@link com.hivemq.extensions.google.cloud.pubsub.api.services.WindowAggregator}.
+ * <p>
+ * The internal state of this interface is immutable.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@Immutable
+@DoNotImplement
+public interface WindowResult {
+
+    /**
+     * @return The key of the aggregated values, e.g. the MQTT topic.
+     * @since 4.54.0
+     */
+    @NotNull String getKey();
+
+    /**
+     * @return The inclusive start of the window in milliseconds from epoch.
+     * @since 4.54.0
+     */
+    long getWindowStart();
+
+    /**
+     * @return The exclusive end of the window in milliseconds from epoch. For a window that was closed early by
+     *         {@link com.hivemq.extensions.google.cloud.pubsub.api.services.WindowAggregator#flush()}, the time of the
+     *         flush.
+     * @since 4.54.0
+     */
+    long getWindowEnd();
+
+    /**
+     * @return The number of values in the window. It is at least {@code 1}, windows without values are not reported.
+     * @since 4.54.0
+     */
+    long getCount();
+
+    /**
+     * @return The minimum of the values in the window.
+     * @since 4.54.0
+     */
+    double getMin();
+
+    /**
+     * @return The maximum of the values in the window.
+     * @since 4.54.0
+     */
+    double getMax();
+
+    /**
+     * @return The sum of the values in the window.
+     * @since 4.54.0
+     */
+    double getSum();
+
+    /**
+     * @return The arithmetic mean of the values in the window.
+     * @since 4.54.0
+     */
+    double getAverage();
+
+    /**
+     * @return The most recently added value in the window.
+     * @since 4.54.0
+     */
+    double getLast();
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Implement this loader to asynchronously load the values of a {@link SharedCache}, e.g. from a device registry.
+ * <p>
+ * The loader may be called concurrently for different keys. Concurrent misses of the same key are coalesced, so the
+ * loader is called only once per key at a time.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@FunctionalInterface
+public interface CacheLoader<K, V> {
+
+    /**
+     * Load the value of a key. This method must not block, the loading must be done asynchronously.
+     *
+     * @param key The key to load the value of.
+     * @return A {@link CompletionStage} that completes with the loaded value, or an empty {@link Optional} if no value
+     *         exists for the key. Absent values are not cached.
+     * @since 4.54.0
+     */
+    @NotNull CompletionStage<Optional<V>> load(@NotNull K key);
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.SharedCacheBuilder;
+
+import java.util.Optional;
+
+/**
+ * Provides the {@link SharedCache}s that are shared by all transformers of the "HiveMQ Enterprise Extension for
+ * Google Cloud Pub/Sub".
+ * <p>
+ * The first transformer that builds a cache with a name defines the key type, the value type and the configuration of
+ * the cache. All other transformers requesting the same name get the same cache, if they request the same key and
+ * value types. The types are compared by {@link Class} identity, so the same class name loaded by the class loaders of
+ * different {@code customizations} is a different type.
+ * <p>
+ * Only the erased {@link Class} of the key and value types is checked. For generic types, pass the raw class and
+ * specify the full type via the type arguments of the method or the target type, e.g. pass {@code Map.class} as the
+ * value type of a {@code SharedCache<String, Map<String, String>>}. No unchecked conversion is needed for this. The
+ * type arguments (here {@code <String, String>}) are not checked, so all transformers sharing a cache must agree on
+ * them.
+ * <p>
+ * Every transformer that {@link SharedCacheBuilder#build() builds} a cache registers its {@link CacheLoader} with the
+ * cache. The cache loads values with the loader of the transformer that registered first among the transformers that
+ * are still running. When that transformer is
+ * {@link com.hivemq.extensions.google.cloud.pubsub.api.transformers.Transformer#stop stopped} (e.g. on a reload of the
+ * configuration), the loader of the next registered transformer is used and all entries are invalidated, so no value
+ * loaded by the stopped transformer is retained. When the last registered transformer is stopped, the cache is
+ * destroyed. Afterwards, the destroyed {@link SharedCache} can no longer be used and a new cache can be built with the
+ * same name.
+ * <p>
+ * Every cache records its hits, misses and load times in the {@link com.codahale.metrics.MetricRegistry} with the
+ * prefix {@code com.hivemq.extensions.gcp-pubsub.cache.<cache-name>}.
+ * <p>
+ * All methods can be called concurrently.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface CacheService {
+
+    /**
+     * Create a new {@link SharedCacheBuilder} for the cache with the given name. If a cache with the name already
+     * exists, {@link SharedCacheBuilder#build()} returns the existing cache.
+     *
+     * @param name      The name of the cache.
+     * @param keyType   The type of the keys.
+     * @param valueType The type of the values.
+     * @param <K>       The type of the keys.
+     * @param <V>       The type of the values.
+     * @return An empty instance of the {@link SharedCacheBuilder}.
+     * @throws NullPointerException     If {@code name}, {@code keyType} or {@code valueType} is null.
+     * @throws IllegalArgumentException If {@code name} is empty.
+     * @throws IllegalArgumentException If a cache with the name exists with a different key or value type.
+     * @since 4.54.0
+     */
+    <K, V> @NotNull SharedCacheBuilder<K, V> newSharedCacheBuilder(
+            @NotNull String name, @NotNull Class<? super K> keyType, @NotNull Class<? super V> valueType);
+
+    /**
+     * Get an existing cache without registering a {@link CacheLoader}. The returned cache is destroyed when the last
+     * transformer that built it is stopped.
+     *
+     * @param name      The name of the cache.
+     * @param keyType   The type of the keys.
+     * @param valueType The type of the values.
+     * @param <K>       The type of the keys.
+     * @param <V>       The type of the values.
+     * @return An {@link Optional} that contains the existing cache with the given name.
+     * @throws NullPointerException     If {@code name}, {@code keyType} or {@code valueType} is null.
+     * @throws IllegalArgumentException If the cache with the name has a different key or value type.
+     * @since 4.54.0
+     */
+    <K, V> @NotNull Optional<SharedCache<K, V>> getSharedCache(
+            @NotNull String name, @NotNull Class<? super K> keyType, @NotNull Class<? super V> valueType);
+}
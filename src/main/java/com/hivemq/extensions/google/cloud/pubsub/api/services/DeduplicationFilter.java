@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.DeduplicationFilterBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.InboundPubSubMessage;
+
+/**
+ * A bounded filter that detects redelivered Google Cloud Pub/Sub messages.
+ * <p>
+ * Google Cloud Pub/Sub delivers messages at least once, so a transformer can see the same message multiple times. The
+ * filter remembers the deduplication keys (the message id or a configured attribute) of recently seen messages. The
+ * keys are stored as 64 bit hashes in a fixed number of entries and expire after the configured time. A hash
+ * collision causes a new message to be treated as a duplicate. The probability of this is at most
+ * {@code maximumSize / 2^64} per checked message, e.g. about 5.4 * 10^-14 for 1,000,000 entries.
+ * <p>
+ * A key is remembered when the message is checked, before the outcome of its transformation is known. The filter is
+ * therefore bound to the transformer that built it: whenever the "HiveMQ Enterprise Extension for Google Cloud
+ * Pub/Sub" does not acknowledge a message that was checked by a filter of the transformer, it forgets the key of the
+ * message in that filter before Google Cloud Pub/Sub can redeliver it. This covers exceptions of the transformer,
+ * exceptionally completed or timed out {@link java.util.concurrent.CompletionStage}s of asynchronous transformers and
+ * failures of HiveMQ to accept the publishes. A redelivery of such a message is therefore not dropped as a
+ * duplicate.
+ * <p>
+ * The state of the filter is kept in memory on the HiveMQ node it was built on and is not shared within the HiveMQ
+ * cluster, nor does it survive a restart of the node or of the transformer. Google Cloud Pub/Sub can redeliver a
+ * message to a subscriber on a different HiveMQ node, where the duplicate is not detected. The filter therefore reduces
+ * duplicates, but it does not provide cluster-wide exactly-once delivery. Use a subscription with exactly-once
+ * delivery enabled if that is required.
+ * <p>
+ * Use a {@link DeduplicationFilterBuilder} to create a {@code DeduplicationFilter}. The filter is striped, so all
+ * methods can be called concurrently from multiple transformer threads without contention.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface DeduplicationFilter {
+
+    /**
+     * Check whether the message was already seen and remember its deduplication key otherwise.
+     * <p>
+     * A message without the configured deduplication attribute is never treated as a duplicate.
+     *
+     * @param inboundPubSubMessage The message to check.
+     * @return <code>true</code> if the deduplication key of the message was seen before and is not expired yet, else
+     *         <code>false</code>.
+     * @throws NullPointerException If {@code inboundPubSubMessage} is null.
+     * @since 4.54.0
+     */
+    boolean isDuplicate(@NotNull InboundPubSubMessage inboundPubSubMessage);
+
+    /**
+     * Forget the deduplication key of the message, so a redelivery is processed again. Keys of messages that are not
+     * acknowledged by the "HiveMQ Enterprise Extension for Google Cloud Pub/Sub" are forgotten automatically, so this
+     * method is only needed if the transformer decides itself that a message must be processed again.
+     *
+     * @param inboundPubSubMessage The message to forget.
+     * @throws NullPointerException If {@code inboundPubSubMessage} is null.
+     * @since 4.54.0
+     */
+    void forget(@NotNull InboundPubSubMessage inboundPubSubMessage);
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extension.sdk.api.packets.publish.PublishPacket;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.PubSubMessage;
+import com.hivemq.extensions.google.cloud.pubsub.api.transformers.TransformerInitInput;
+
+/**
+ * A compiled filter expression that selects MQTT PUBLISHes or Google Cloud Pub/Sub messages.
+ * <p>
+ * An expression is compiled once into a tree of specialized predicates, so evaluating it does not parse or allocate.
+ * Example: {@code attr.region == 'eu' && topic[2] in ('temp', 'hum')}
+ * <p>
+ * The following operands are supported:
+ * <ul>
+ *     <li>{@code topic}: the whole MQTT topic</li>
+ *     <li>{@code topic[n]}: the MQTT topic level with the zero-based index {@code n}</li>
+ *     <li>{@code qos}: the MQTT QoS as a number</li>
+ *     <li>{@code retain}: the MQTT retain flag</li>
+ *     <li>{@code userProperty.name} or {@code userProperty['name']}: the first MQTT user property with the name</li>
+ *     <li>{@code contentType}: the MQTT content type</li>
+ *     <li>{@code attr.name} or {@code attr['name']}: the Google Cloud Pub/Sub attribute with the name</li>
+ *     <li>{@code orderingKey}: the Google Cloud Pub/Sub ordering key</li>
+ *     <li>string literals in single quotes, numbers, {@code true} and {@code false}</li>
+ * </ul>
+ * <p>
+ * The operands can be combined with the comparison operators {@code ==}, {@code !=}, {@code <}, {@code <=}, {@code >}
+ * and {@code >=}, the operator {@code in} followed by a list of literals in parentheses, the function
+ * {@code exists(operand)}, the logical operators {@code &&}, {@code ||} and {@code !}, and parentheses.
+ * <p>
+ * The operators bind from strongest to weakest in the following order: {@code !}, the comparison operators and
+ * {@code in}, {@code &&} and finally {@code ||}. For example, {@code !exists(attr.id) && qos == 1 || retain == true} is
+ * evaluated as {@code ((!exists(attr.id)) && (qos == 1)) || (retain == true)}. Comparisons can not be chained,
+ * {@code &&} and {@code ||} are left associative and evaluate their right side only if needed. Use parentheses to
+ * negate a comparison, e.g. {@code !(qos == 0)}.
+ * <p>
+ * The type of a comparison is defined by the literal: with a number literal, the operand is parsed as a decimal number
+ * and compared numerically, with a string literal, the operand is compared lexicographically by its UTF-16 code units
+ * (like {@link String#compareTo(String)}), with {@code true} or {@code false}, the operand must be exactly
+ * {@code true} or {@code false}. The elements of an {@code in} list are compared the same way one after the other. If
+ * the operand can not be converted to the type of the literal, e.g. a topic level {@code 'abc'} compared with
+ * {@code 10}, the comparison is {@code false}.
+ * <p>
+ * Operands that are not present for a message, e.g. an attribute that is not set or a Google Cloud Pub/Sub operand
+ * evaluated against an MQTT PUBLISH, make every comparison they are part of {@code false}. This also applies to
+ * {@code !=}, so {@code attr.region != 'eu'} is {@code false} for a message without the attribute, while
+ * {@code !(attr.region == 'eu')} is {@code true}. Use {@code !exists(attr.region) || attr.region != 'eu'} or the
+ * negated form to select messages without the operand as well.
+ * <p>
+ * Use {@link TransformerInitInput#compileMessageFilter(String)} to create a {@code MessageFilter}. All methods can be
+ * called concurrently.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface MessageFilter {
+
+    /**
+     * @return The expression this filter was compiled from.
+     * @since 4.54.0
+     */
+    @NotNull String getExpression();
+
+    /**
+     * @param publishPacket The {@link PublishPacket} to evaluate the filter against.
+     * @return <code>true</code> if the {@code publishPacket} matches the filter, else <code>false</code>.
+     * @throws NullPointerException If {@code publishPacket} is null.
+     * @since 4.54.0
+     */
+    boolean test(@NotNull PublishPacket publishPacket);
+
+    /**
+     * @param pubSubMessage The {@link PubSubMessage} to evaluate the filter against.
+     * @return <code>true</code> if the {@code pubSubMessage} matches the filter, else <code>false</code>.
+     * @throws NullPointerException If {@code pubSubMessage} is null.
+     * @since 4.54.0
+     */
+    boolean test(@NotNull PubSubMessage pubSubMessage);
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extension.sdk.api.packets.publish.PublishPacket;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.OrderingKeyShardingBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.OutboundPubSubMessageBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.PubSubMessage;
+
+import java.util.Optional;
+
+/**
+ * Spreads the messages of one logical Google Cloud Pub/Sub ordering key across a fixed number of sub-keys.
+ * <p>
+ * Google Cloud Pub/Sub publishes all messages with the same ordering key one after the other, which limits the
+ * throughput per ordering key. A sharded ordering key has the format {@code <logical-key><separator><shard>}, where
+ * {@code <shard>} is the decimal shard number without leading zeros, from {@code 0} to the configured number of shards
+ * minus one. A logical key must not contain the separator. The shard is selected by consistent hashing of a shard
+ * discriminator (e.g. the MQTT client or the first topic levels). All messages with the same logical key and the same
+ * discriminator get the same sharded key, so their order is kept.
+ * <p>
+ * Use an {@link OrderingKeyShardingBuilder} to create an {@code OrderingKeySharding}. The same configuration must be
+ * used on the inbound side to {@link #logicalKey(String) restore the logical key}. All methods can be called
+ * concurrently.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface OrderingKeySharding {
+
+    /**
+     * @param logicalKey         The logical ordering key.
+     * @param shardDiscriminator The value that selects the shard. The order is kept for all messages with the same
+     *                           value.
+     * @return The sharded ordering key, that can be passed to
+     *         {@link OutboundPubSubMessageBuilder#orderingKey(String)}.
+     * @throws NullPointerException     If {@code logicalKey} or {@code shardDiscriminator} is null.
+     * @throws IllegalArgumentException If {@code logicalKey} contains the separator.
+     * @throws IllegalArgumentException If the sharded key exceeds the max size of 1,024 bytes (UTF-8).
+     * @since 4.54.0
+     */
+    @NotNull String shardedKey(@NotNull String logicalKey, @NotNull String shardDiscriminator);
+
+    /**
+     * Uses the configured number of leading topic levels of the {@code publishPacket} as the shard discriminator.
+     *
+     * @param logicalKey    The logical ordering key.
+     * @param publishPacket The {@link PublishPacket} that selects the shard.
+     * @return The sharded ordering key.
+     * @throws NullPointerException     If {@code logicalKey} or {@code publishPacket} is null.
+     * @throws IllegalArgumentException If {@code logicalKey} contains the separator.
+     * @throws IllegalArgumentException If the sharded key exceeds the max size of 1,024 bytes (UTF-8).
+     * @see OrderingKeyShardingBuilder#discriminatorTopicLevels(int)
+     * @since 4.54.0
+     */
+    @NotNull String shardedKey(@NotNull String logicalKey, @NotNull PublishPacket publishPacket);
+
+    /**
+     * As logical keys never contain the separator, an ordering key is only treated as sharded if it contains exactly
+     * one separator that is followed by a decimal shard number (without leading zeros) below the configured number of
+     * shards. In this case, the separator and the shard number are removed. All other ordering keys, including all keys
+     * without the separator, are returned unchanged.
+     *
+     * @param orderingKey A sharded ordering key.
+     * @return The logical ordering key. If {@code orderingKey} is not sharded, it is returned unchanged.
+     * @throws NullPointerException If {@code orderingKey} is null.
+     * @since 4.54.0
+     */
+    @NotNull String logicalKey(@NotNull String orderingKey);
+
+    /**
+     * The logical ordering key is restored the same way as by {@link #logicalKey(String)}.
+     *
+     * @param pubSubMessage The message to get the logical ordering key of.
+     * @return An {@link Optional} that contains the logical ordering key of the message, or an empty
+     *         {@link Optional} if the message has no ordering key.
+     * @throws NullPointerException If {@code pubSubMessage} is null.
+     * @since 4.54.0
+     */
+    @NotNull Optional<String> logicalKey(@NotNull PubSubMessage pubSubMessage);
+}
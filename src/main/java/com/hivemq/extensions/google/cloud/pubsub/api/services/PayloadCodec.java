@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A codec that encodes and decodes the data of Google Cloud Pub/Sub messages, e.g. by compressing it.
+ * <p>
+ * The built-in codecs are provided by the {@link PayloadCodecs}. Implement this interface to plug in an own codec and
+ * {@link PayloadCodecs#register(PayloadCodec) register} it, so it is also used to decode inbound messages. The methods
+ * of this interface may be called concurrently and must be thread-safe.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+public interface PayloadCodec {
+
+    /**
+     * The name of the Google Cloud Pub/Sub attribute that contains the {@link #getContentEncoding() content encoding}
+     * of encoded data.
+     *
+     * @since 4.54.0
+     */
+    @NotNull String CONTENT_ENCODING_ATTRIBUTE = "content-encoding";
+
+    /**
+     * The content encoding must be unique among all registered codecs. It must not exceed the max size of 1,024 bytes
+     * (UTF-8) of a Google Cloud Pub/Sub attribute value.
+     *
+     * @return The content encoding that identifies data encoded with this codec, e.g. {@code gzip}.
+     * @since 4.54.0
+     */
+    @NotNull String getContentEncoding();
+
+    /**
+     * Encode the remaining bytes of {@code data}. The position and limit of {@code data} must not be changed.
+     *
+     * @param data The data to encode.
+     * @return A {@link ByteBuffer} containing the encoded data. The returned buffer is owned by the caller.
+     * @since 4.54.0
+     */
+    @NotNull ByteBuffer encode(@NotNull ByteBuffer data);
+
+    /**
+     * Decode the remaining bytes of {@code data}. The position and limit of {@code data} must not be changed.
+     *
+     * @param data The data to decode.
+     * @return A {@link ByteBuffer} containing the decoded data. The returned buffer is owned by the caller.
+     * @throws IllegalArgumentException If {@code data} was not encoded with this codec or is corrupted.
+     * @since 4.54.0
+     */
+    @NotNull ByteBuffer decode(@NotNull ByteBuffer data);
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.Immutable;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.PubSubMessage;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * The registry of the {@link PayloadCodec}s of a transformer.
+ * <p>
+ * Outbound data is encoded via
+ * {@link com.hivemq.extensions.google.cloud.pubsub.api.builders.OutboundPubSubMessageBuilder#compression(PayloadCodec,
+ * int) OutboundPubSubMessageBuilder.compression}, which marks the message with the
+ * {@link PayloadCodec#CONTENT_ENCODING_ATTRIBUTE}. Inbound data is decoded via {@link #decode(PubSubMessage)} by
+ * looking up the codec for the content encoding attribute of the message.
+ * <p>
+ * Inbound data is not decoded before the transformer is called, {@link PubSubMessage#getData()} always returns the
+ * data as received from Google Cloud Pub/Sub. This way, transformers that forward the data as is do not pay for
+ * decoding and encoding it again. Transformers that need the decoded data call {@link #decode(PubSubMessage)}
+ * explicitly.
+ * <p>
+ * The built-in codecs use pooled {@link java.util.zip.Deflater}s and {@link java.util.zip.Inflater}s. Every
+ * {@link PayloadCodec#encode(ByteBuffer)} and {@link PayloadCodec#decode(ByteBuffer)} returns a new buffer that is
+ * owned by the caller. {@link #decode(PubSubMessage)} only returns such a buffer if the data of the message is encoded,
+ * see its documentation. All methods of this interface can be called concurrently.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface PayloadCodecs {
+
+    /**
+     * @return The built-in {@link PayloadCodec} with the content encoding {@code gzip}.
+     * @since 4.54.0
+     */
+    @NotNull PayloadCodec gzip();
+
+    /**
+     * @return The built-in {@link PayloadCodec} with the content encoding {@code deflate}.
+     * @since 4.54.0
+     */
+    @NotNull PayloadCodec deflate();
+
+    /**
+     * Register an own {@link PayloadCodec}, so it can be found via its content encoding.
+     *
+     * @param payloadCodec The {@link PayloadCodec} to register.
+     * @throws NullPointerException     If {@code payloadCodec} is null.
+     * @throws IllegalArgumentException If a different codec with the same content encoding is already registered.
+     * @since 4.54.0
+     */
+    void register(@NotNull PayloadCodec payloadCodec);
+
+    /**
+     * @param contentEncoding The content encoding of the codec to get.
+     * @return An {@link Optional} that contains the built-in or registered codec for the content encoding.
+     * @since 4.54.0
+     */
+    @NotNull Optional<PayloadCodec> forContentEncoding(@NotNull String contentEncoding);
+
+    /**
+     * Decode the data of a Google Cloud Pub/Sub message according to its
+     * {@link PayloadCodec#CONTENT_ENCODING_ATTRIBUTE}. If the message does not contain the attribute, the data is
+     * returned as is.
+     * <p>
+     * The returned buffer is read only in both cases. If the data was decoded, it is a new buffer that is owned by the
+     * caller. Otherwise, it is the same view of the data of the message as returned by
+     * {@link PubSubMessage#getData()}, which shares the memory of the message.
+     *
+     * @param pubSubMessage The message to decode the data of.
+     * @return An {@link Optional} of the decoded data of the message.
+     * @throws NullPointerException     If {@code pubSubMessage} is null.
+     * @throws IllegalArgumentException If no codec is found for the content encoding of the message or the data can
+     *                                  not be decoded.
+     * @since 4.54.0
+     */
+    @NotNull Optional<@Immutable ByteBuffer> decode(@NotNull PubSubMessage pubSubMessage);
+}
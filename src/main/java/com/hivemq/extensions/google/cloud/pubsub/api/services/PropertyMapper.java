@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extension.sdk.api.packets.publish.PublishPacket;
+import com.hivemq.extension.sdk.api.services.builder.PublishBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.OutboundPubSubMessageBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.PropertyMapperBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.AttributeLimitPolicy;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.PubSubMessage;
+
+/**
+ * Copies MQTT user properties to Google Cloud Pub/Sub attributes and back according to a precompiled mapping.
+ * <p>
+ * The properties are copied directly between the messages and the builders, no intermediate collections are created.
+ * The limits of Google Cloud Pub/Sub attributes are checked while copying and handled according to the configured
+ * {@link AttributeLimitPolicy}, so oversized attributes do not cause failing publish requests. The parts of the
+ * configuration that do not depend on a message, e.g. the size of renamed attribute keys, are already checked by
+ * {@link PropertyMapperBuilder#build()}.
+ * <p>
+ * The attributes {@link PayloadCodec#CONTENT_ENCODING_ATTRIBUTE} and
+ * {@link PublishEnvelopeReader#ENVELOPE_FORMAT_ATTRIBUTE} are reserved for the
+ * "HiveMQ Enterprise Extension for Google Cloud Pub/Sub" and are never mapped, in both directions. A user property
+ * whose attribute key (after prefixing) is a reserved attribute is skipped, regardless of the
+ * {@link AttributeLimitPolicy}, and the reserved attributes of a Google Cloud Pub/Sub message never become user
+ * properties.
+ * <p>
+ * Use a {@link PropertyMapperBuilder} to create a {@code PropertyMapper}. All methods can be called concurrently.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface PropertyMapper {
+
+    /**
+     * Copy the mapped user properties of the {@code publishPacket} as attributes to the
+     * {@code outboundPubSubMessageBuilder}. Attributes already set on the builder count towards the max number of
+     * attributes. One attribute is always kept free for the {@link PayloadCodec#CONTENT_ENCODING_ATTRIBUTE} that is
+     * added by {@link OutboundPubSubMessageBuilder#compression(PayloadCodec, int)}, so at most 99 attributes are set.
+     *
+     * @param publishPacket                The {@link PublishPacket} to copy the user properties of.
+     * @param outboundPubSubMessageBuilder The {@link OutboundPubSubMessageBuilder} to add the attributes to.
+     * @throws NullPointerException     If {@code publishPacket} or {@code outboundPubSubMessageBuilder} is null.
+     * @throws IllegalArgumentException If a limit is exceeded and the policy is {@link AttributeLimitPolicy#REJECT}.
+     * @since 4.54.0
+     */
+    void mapToAttributes(
+            @NotNull PublishPacket publishPacket,
+            @NotNull OutboundPubSubMessageBuilder outboundPubSubMessageBuilder);
+
+    /**
+     * Copy the mapped attributes of the {@code pubSubMessage} as user properties to the {@code publishBuilder}. The
+     * attribute prefix is removed, renamed attributes get their user property names back and joined values are split
+     * into multiple user properties and unescaped, see {@link PropertyMapperBuilder#multiValueSeparator(String)}.
+     *
+     * @param pubSubMessage  The {@link PubSubMessage} to copy the attributes of.
+     * @param publishBuilder The {@link PublishBuilder} to add the user properties to.
+     * @throws NullPointerException If {@code pubSubMessage} or {@code publishBuilder} is null.
+     * @since 4.54.0
+     */
+    void mapToUserProperties(@NotNull PubSubMessage pubSubMessage, @NotNull PublishBuilder publishBuilder);
+}
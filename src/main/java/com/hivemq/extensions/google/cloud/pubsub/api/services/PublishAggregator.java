@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extension.sdk.api.packets.publish.PublishPacket;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.PublishAggregatorBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.PubSubConnection;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Aggregates many MQTT PUBLISHes into compact binary envelope messages that are published to Google Cloud Pub/Sub.
+ * <p>
+ * Every envelope contains the topic, QoS, retain flag, payload, user properties and timestamp of each aggregated
+ * {@link PublishPacket}. An envelope is published by the HiveMQ Enterprise Extension for PubSub as soon as one of the
+ * limits configured via the {@link PublishAggregatorBuilder} is reached. Envelopes are split back into MQTT PUBLISHes
+ * via the {@link PublishEnvelopeReader}.
+ * <p>
+ * Use a {@link PublishAggregatorBuilder} to create a {@code PublishAggregator}. All methods can be called concurrently.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface PublishAggregator {
+
+    /**
+     * Add a {@link PublishPacket} to the current envelope. The payload is copied into the envelope before this method
+     * returns.
+     * <p>
+     * An MQTT PUBLISH that is added to the aggregator is usually not transformed into any other
+     * {@link com.hivemq.extensions.google.cloud.pubsub.api.model.OutboundPubSubMessage}, so no outbound messages need
+     * to be set on the output of the transformer.
+     * <p>
+     * The envelope is published with the retry settings of the {@link PubSubConnection}, the same way as every other
+     * outbound message. The returned {@link CompletionStage} completes when the envelope that contains the MQTT PUBLISH
+     * was published successfully. It completes exceptionally when the envelope can not be published after all retries
+     * or was not published before the deadline of the
+     * {@link com.hivemq.extensions.google.cloud.pubsub.api.transformers.Transformer#flush flush}.
+     * <p>
+     * To keep the delivery guarantee of the MQTT PUBLISH, add it from a
+     * {@link com.hivemq.extensions.google.cloud.pubsub.api.transformers.MqttToPubSubAsyncTransformer} and return the
+     * {@link CompletionStage} of this method (or a stage that depends on it). The MQTT PUBLISH is then only handled as
+     * done when its envelope is published, and is handled like a failed transformation otherwise. The
+     * {@code maxDelay} of the aggregator must be shorter than the {@code <async-timeout>} of the transformer. When the
+     * MQTT PUBLISH is added from a synchronous transformer, it is handled as done when the transformer returns and
+     * the MQTT PUBLISHes of the current envelope are lost if the envelope can not be published or the HiveMQ node
+     * stops unexpectedly.
+     *
+     * @param publishPacket The {@link PublishPacket} to aggregate.
+     * @return A {@link CompletionStage} that completes when the envelope containing the {@code publishPacket} is
+     *         published.
+     * @throws NullPointerException     If {@code publishPacket} is null.
+     * @throws IllegalArgumentException If the {@code publishPacket} alone exceeds the max size of an envelope.
+     * @since 4.54.0
+     */
+    @NotNull CompletionStage<Void> add(@NotNull PublishPacket publishPacket);
+
+    /**
+     * Publish the current envelope immediately, regardless of the configured limits. Does nothing if the current
+     * envelope is empty.
+     * <p>
+     * The current envelope is also published when the transformer is
+     * {@link com.hivemq.extensions.google.cloud.pubsub.api.transformers.Transformer#flush flushed}.
+     *
+     * @since 4.54.0
+     */
+    void flush();
+}
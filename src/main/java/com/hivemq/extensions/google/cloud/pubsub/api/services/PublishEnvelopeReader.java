@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extension.sdk.api.services.builder.PublishBuilder;
+import com.hivemq.extension.sdk.api.services.publish.Publish;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.PubSubMessage;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.PublishEnvelopeRecord;
+import com.hivemq.extensions.google.cloud.pubsub.api.transformers.PubSubToMqttOutput;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Splits the envelope messages created by a {@link PublishAggregator} back into MQTT PUBLISHes.
+ * <p>
+ * The envelope is read in place. No data is copied for a {@link PublishEnvelopeRecord}, the payload of a record is a
+ * view of the data of the envelope message. All methods of this interface can be called concurrently.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface PublishEnvelopeReader {
+
+    /**
+     * The name of the Google Cloud Pub/Sub attribute that marks envelope messages and contains the version of the
+     * envelope format.
+     *
+     * @since 4.54.0
+     */
+    @NotNull String ENVELOPE_FORMAT_ATTRIBUTE = "hivemq-envelope-format";
+
+    /**
+     * @param pubSubMessage The message to check.
+     * @return <code>true</code> if the message is an envelope created by a {@link PublishAggregator}, else
+     *         <code>false</code>.
+     * @throws NullPointerException If {@code pubSubMessage} is null.
+     * @since 4.54.0
+     */
+    boolean isEnvelope(@NotNull PubSubMessage pubSubMessage);
+
+    /**
+     * Call the {@code recordConsumer} for every MQTT PUBLISH of the envelope, in the order they were added to the
+     * {@link PublishAggregator}. The {@link PublishEnvelopeRecord} passed to the consumer is only valid during the
+     * call.
+     *
+     * @param pubSubMessage  The envelope message to read.
+     * @param recordConsumer The consumer for the records of the envelope.
+     * @throws NullPointerException     If {@code pubSubMessage} or {@code recordConsumer} is null.
+     * @throws IllegalArgumentException If {@code pubSubMessage} is not an envelope or its data is corrupted.
+     * @since 4.54.0
+     */
+    void forEachRecord(
+            @NotNull PubSubMessage pubSubMessage, @NotNull Consumer<@NotNull PublishEnvelopeRecord> recordConsumer);
+
+    /**
+     * Create a {@link Publish} for every MQTT PUBLISH of the envelope. The payloads of the returned publishes are not
+     * copied, but share the data of the envelope message.
+     * <p>
+     * Example: {@code output.setPublishes(reader.toPublishes(message, output::newPublishBuilder))}
+     *
+     * @param pubSubMessage          The envelope message to read.
+     * @param publishBuilderSupplier The supplier of a new {@link PublishBuilder} for every {@link Publish}, e.g.
+     *                               {@link PubSubToMqttOutput#newPublishBuilder()}.
+     * @return The {@link Publish}es in the order the MQTT PUBLISHes were added to the {@link PublishAggregator}.
+     * @throws NullPointerException     If {@code pubSubMessage} or {@code publishBuilderSupplier} is null.
+     * @throws IllegalArgumentException If {@code pubSubMessage} is not an envelope or its data is corrupted.
+     * @since 4.54.0
+     */
+    @NotNull List<@NotNull Publish> toPublishes(
+            @NotNull PubSubMessage pubSubMessage, @NotNull Supplier<@NotNull PublishBuilder> publishBuilderSupplier);
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extension.sdk.api.packets.publish.PublishPacket;
+import com.hivemq.extension.sdk.api.services.builder.PublishBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.OutboundPubSubMessageBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.PublishJsonCodecBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.PubSubMessage;
+
+/**
+ * Converts MQTT PUBLISHes to and from a JSON representation that is used as the data of Google Cloud Pub/Sub messages.
+ * <p>
+ * The JSON is written field by field as UTF-8 directly into a new buffer and is read in a streaming fashion, no
+ * intermediate object tree is created. The fields that are written are configured via the
+ * {@link PublishJsonCodecBuilder}.
+ * <p>
+ * Use a {@link PublishJsonCodecBuilder} to create a {@code PublishJsonCodec}. All methods can be called concurrently.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface PublishJsonCodec {
+
+    /**
+     * Write the JSON representation of the {@code publishPacket} as the data of the
+     * {@code outboundPubSubMessageBuilder}. The data previously set on the builder is replaced.
+     * <p>
+     * The JSON is encoded into a new buffer that is handed over to the builder via
+     * {@link OutboundPubSubMessageBuilder#dataView(java.nio.ByteBuffer)}, so the data is not copied again.
+     *
+     * @param publishPacket                The {@link PublishPacket} to encode.
+     * @param outboundPubSubMessageBuilder The {@link OutboundPubSubMessageBuilder} to set the data on.
+     * @throws NullPointerException     If {@code publishPacket} or {@code outboundPubSubMessageBuilder} is null.
+     * @throws IllegalArgumentException If the encoded data exceeds the max size of 10,000,000 bytes (10MB).
+     * @since 4.54.0
+     */
+    void encode(
+            @NotNull PublishPacket publishPacket,
+            @NotNull OutboundPubSubMessageBuilder outboundPubSubMessageBuilder);
+
+    /**
+     * Read the JSON representation from the data of the {@code pubSubMessage} and set the contained fields on the
+     * {@code publishBuilder}. Fields that are not configured for this codec and unknown fields are ignored.
+     *
+     * @param pubSubMessage  The {@link PubSubMessage} to decode.
+     * @param publishBuilder The {@link PublishBuilder} to set the fields on.
+     * @throws NullPointerException     If {@code pubSubMessage} or {@code publishBuilder} is null.
+     * @throws IllegalArgumentException If the data of the {@code pubSubMessage} is missing or is not a valid JSON
+     *                                  representation of an MQTT PUBLISH.
+     * @since 4.54.0
+     */
+    void decode(@NotNull PubSubMessage pubSubMessage, @NotNull PublishBuilder publishBuilder);
+}
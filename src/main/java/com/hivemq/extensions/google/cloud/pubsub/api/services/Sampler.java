@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extension.sdk.api.packets.publish.PublishPacket;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.SamplerBuilder;
+
+/**
+ * Limits the rate of messages per key, e.g. to forward at most one MQTT PUBLISH per topic and second.
+ * <p>
+ * The time of the last accepted message of every key is kept in a preallocated slot, sampling does not allocate. The
+ * slot of a key is released when no message of the key was accepted for the configured interval, as the key would be
+ * accepted anyway. Messages of new keys are only accepted unsampled while all slots are occupied by keys that had an
+ * accepted message within the last interval. These messages are counted in the
+ * {@link com.hivemq.extensions.google.cloud.pubsub.api.model.TransformerMetrics#getSamplerUnsampledName() unsampled}
+ * metric of the transformer.
+ * <p>
+ * A sampler holds no messages, so nothing needs to be emitted when the transformer is
+ * {@link com.hivemq.extensions.google.cloud.pubsub.api.transformers.Transformer#flush flushed}.
+ * <p>
+ * Use a {@link SamplerBuilder} to create a {@code Sampler}. All methods can be called concurrently.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface Sampler {
+
+    /**
+     * Uses the topic of the {@code publishPacket} as the key.
+     *
+     * @param publishPacket The {@link PublishPacket} to sample.
+     * @return <code>true</code> if the MQTT PUBLISH should be forwarded, <code>false</code> if it should be dropped.
+     * @throws NullPointerException If {@code publishPacket} is null.
+     * @since 4.54.0
+     */
+    boolean tryAcquire(@NotNull PublishPacket publishPacket);
+
+    /**
+     * @param key The key to sample.
+     * @return <code>true</code> if no message of the key was accepted within the configured interval, else
+     *         <code>false</code>.
+     * @throws NullPointerException If {@code key} is null.
+     * @since 4.54.0
+     */
+    boolean tryAcquire(@NotNull String key);
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extension.sdk.api.services.builder.PublishBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.OutboundPubSubMessageBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.SchemaCodecBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.PubSubMessage;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.SchemaType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts JSON payloads to and from the binary encoding of a schema that is attached to a Google Cloud Pub/Sub topic.
+ * <p>
+ * The schema is compiled once into a field by field writer and reader. Encoding reads the JSON in a streaming fashion
+ * and writes the binary encoding into a new buffer, no generic record or reflection is used.
+ * <p>
+ * The JSON is mapped to the schema the same way as Google Cloud Pub/Sub maps JSON encoded messages of topics with a
+ * schema:
+ * <ul>
+ *     <li>{@link SchemaType#AVRO}: the JSON encoding of the Avro specification. A non-null value of a union is wrapped
+ *     in an object with the name of its type as the only field, e.g. {@code {"string": "abc"}}, and {@code bytes} and
+ *     {@code fixed} values are strings of ISO-8859-1 characters.</li>
+ *     <li>{@link SchemaType#PROTOCOL_BUFFER}: the proto3 JSON mapping. Field names are written in lowerCamelCase, both
+ *     lowerCamelCase and the original field names are accepted when reading. 64 bit integers are written as strings
+ *     and accepted as strings or numbers, {@code bytes} are base64 encoded, enum values are written as their names and
+ *     fields with default values are omitted. Unknown fields are rejected.</li>
+ * </ul>
+ * <p>
+ * Use a {@link SchemaCodecBuilder} to create a {@code SchemaCodec}. All methods can be called concurrently.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface SchemaCodec {
+
+    /**
+     * @return The {@link SchemaType} of the compiled schema.
+     * @since 4.54.0
+     */
+    @NotNull SchemaType getSchemaType();
+
+    /**
+     * Encode the remaining bytes of the UTF-8 JSON {@code json} with the schema and set the result as the data of the
+     * {@code outboundPubSubMessageBuilder}. The data previously set on the builder is replaced.
+     * <p>
+     * The binary encoding is written into a new buffer that is handed over to the builder via
+     * {@link OutboundPubSubMessageBuilder#dataView(ByteBuffer)}, so the data is not copied again. The {@code json} is
+     * only read, its position and limit are not changed.
+     *
+     * @param json                         The JSON to encode, e.g. the payload of an MQTT PUBLISH.
+     * @param outboundPubSubMessageBuilder The {@link OutboundPubSubMessageBuilder} to set the data on.
+     * @throws NullPointerException     If {@code json} or {@code outboundPubSubMessageBuilder} is null.
+     * @throws IllegalArgumentException If {@code json} is not valid JSON or does not conform with the schema.
+     * @since 4.54.0
+     */
+    void encode(@NotNull ByteBuffer json, @NotNull OutboundPubSubMessageBuilder outboundPubSubMessageBuilder);
+
+    /**
+     * Decode the binary data of the {@code pubSubMessage} with the schema and set the result as UTF-8 JSON payload of
+     * the {@code publishBuilder}.
+     * <p>
+     * The JSON is written into a new buffer that is set via {@link PublishBuilder#payload(ByteBuffer)}.
+     *
+     * @param pubSubMessage  The {@link PubSubMessage} to decode.
+     * @param publishBuilder The {@link PublishBuilder} to set the payload on.
+     * @throws NullPointerException     If {@code pubSubMessage} or {@code publishBuilder} is null.
+     * @throws IllegalArgumentException If the data of the {@code pubSubMessage} is missing or does not conform with
+     *                                  the schema.
+     * @since 4.54.0
+     */
+    void decode(@NotNull PubSubMessage pubSubMessage, @NotNull PublishBuilder publishBuilder);
+}
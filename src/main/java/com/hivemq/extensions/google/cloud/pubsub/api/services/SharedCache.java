@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A named, bounded cache that is shared by all transformers of the "HiveMQ Enterprise Extension for Google Cloud
+ * Pub/Sub", e.g. to share device metadata between an MQTT to Google Cloud Pub/Sub and a Google Cloud Pub/Sub to MQTT
+ * transformer.
+ * <p>
+ * Values are loaded asynchronously by the {@link CacheLoader} of the cache. Entries that are older than the refresh
+ * interval are reloaded in the background on access, while the old value is still returned. Concurrent misses of the
+ * same key are coalesced into a single load.
+ * <p>
+ * Use the {@link CacheService} to get a {@code SharedCache}. After the cache is destroyed, as described in
+ * {@link CacheService}, all methods except {@link #getName()} throw an {@link IllegalStateException}. All methods can
+ * be called concurrently.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface SharedCache<K, V> {
+
+    /**
+     * @return The name of this cache.
+     * @since 4.54.0
+     */
+    @NotNull String getName();
+
+    /**
+     * Get the value of a key, loading it if it is not cached.
+     *
+     * @param key The key to get the value of.
+     * @return A {@link CompletionStage} that completes with the value, or an empty {@link Optional} if the
+     *         {@link CacheLoader} found no value. It completes exceptionally if the loading failed.
+     * @throws NullPointerException If {@code key} is null.
+     * @since 4.54.0
+     */
+    @NotNull CompletionStage<Optional<V>> get(@NotNull K key);
+
+    /**
+     * Get the value of a key only if it is cached. Never triggers a load.
+     *
+     * @param key The key to get the value of.
+     * @return An {@link Optional} that contains the cached value.
+     * @throws NullPointerException If {@code key} is null.
+     * @since 4.54.0
+     */
+    @NotNull Optional<V> getIfPresent(@NotNull K key);
+
+    /**
+     * Cache a value for a key, replacing a previously cached value.
+     *
+     * @param key   The key of the value.
+     * @param value The value to cache.
+     * @throws NullPointerException If {@code key} or {@code value} is null.
+     * @since 4.54.0
+     */
+    void put(@NotNull K key, @NotNull V value);
+
+    /**
+     * Remove the cached value of a key.
+     *
+     * @param key The key to remove the value of.
+     * @throws NullPointerException If {@code key} is null.
+     * @since 4.54.0
+     */
+    void invalidate(@NotNull K key);
+}
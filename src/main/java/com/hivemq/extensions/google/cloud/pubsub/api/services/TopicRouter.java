@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extension.sdk.api.packets.publish.PublishPacket;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.OutboundPubSubMessageBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.TopicRouterBuilder;
+
+import java.util.Optional;
+
+/**
+ * A compiled routing table that resolves MQTT topics to Google Cloud Pub/Sub topic names.
+ * <p>
+ * The routes are compiled into a tree of MQTT topic levels, so the time to resolve a topic depends on the number of
+ * its topic levels but not on the number of routes. Resolved Google Cloud Pub/Sub topic names are cached.
+ * <p>
+ * Use a {@link TopicRouterBuilder} to create a {@code TopicRouter}. The internal state of this interface is immutable
+ * and all methods can be called concurrently.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface TopicRouter {
+
+    /**
+     * Resolve the Google Cloud Pub/Sub topic name for an MQTT topic.
+     *
+     * @param mqttTopic The MQTT topic to resolve.
+     * @return An {@link Optional} that contains the resolved topic name, that can be passed to
+     *         {@link OutboundPubSubMessageBuilder#topicName(String)}, or an empty {@link Optional} if no route matches
+     *         the MQTT topic.
+     * @throws NullPointerException If {@code mqttTopic} is null.
+     * @since 4.54.0
+     */
+    @NotNull Optional<String> route(@NotNull String mqttTopic);
+
+    /**
+     * Resolve the Google Cloud Pub/Sub topic name for the topic of a {@link PublishPacket}.
+     *
+     * @param publishPacket The {@link PublishPacket} whose topic is resolved.
+     * @return An {@link Optional} that contains the resolved topic name, or an empty {@link Optional} if no route
+     *         matches the topic of the {@link PublishPacket}.
+     * @throws NullPointerException If {@code publishPacket} is null.
+     * @since 4.54.0
+     */
+    @NotNull Optional<String> route(@NotNull PublishPacket publishPacket);
+}
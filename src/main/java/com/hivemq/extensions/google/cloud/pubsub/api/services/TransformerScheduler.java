@@ -0,0 +1,78 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extensions.google.cloud.pubsub.api.transformers.Transformer;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * A scheduler for time-based tasks of a transformer, e.g. flushing a partial batch or emitting periodic summaries.
+ * <p>
+ * All transformers share one hashed wheel timer that is managed by the "HiveMQ Enterprise Extension for Google Cloud
+ * Pub/Sub", so transformers do not need to start own threads. The timer has a resolution of 10 milliseconds. Tasks are
+ * executed on shared threads and must not block. Messages can be published from a task the same way as from
+ * {@link Transformer#flush flush}.
+ * <p>
+ * All tasks of a transformer are cancelled after its {@link Transformer#flush flush} method returned. Tasks can not be
+ * scheduled afterwards, so no task is silently dropped between the flush and the stop of the transformer. All methods
+ * can be called concurrently.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface TransformerScheduler {
+
+    /**
+     * Execute a task once after the given delay.
+     *
+     * @param task  The task to execute.
+     * @param delay The delay after which the task is executed.
+     * @return A {@link ScheduledFuture} to cancel the task.
+     * @throws NullPointerException     If {@code task} or {@code delay} is null.
+     * @throws IllegalArgumentException If {@code delay} is negative.
+     * @throws IllegalStateException    If the {@link Transformer#flush flush} method of the transformer already
+     *                                  returned.
+     * @since 4.54.0
+     */
+    @NotNull ScheduledFuture<?> schedule(@NotNull Runnable task, @NotNull Duration delay);
+
+    /**
+     * Execute a task periodically. The first execution happens after the {@code initialDelay}, the following
+     * executions every {@code period}. If an execution takes longer than the {@code period}, the next execution starts
+     * late, executions never overlap. If an execution throws an exception, the following executions are cancelled.
+     *
+     * @param task         The task to execute.
+     * @param initialDelay The delay after which the task is executed the first time.
+     * @param period       The period between the starts of two executions.
+     * @return A {@link ScheduledFuture} to cancel the task.
+     * @throws NullPointerException     If {@code task}, {@code initialDelay} or {@code period} is null.
+     * @throws IllegalArgumentException If {@code initialDelay} is negative or {@code period} is zero or negative.
+     * @throws IllegalStateException    If the {@link Transformer#flush flush} method of the transformer already
+     *                                  returned.
+     * @since 4.54.0
+     */
+    @NotNull ScheduledFuture<?> scheduleAtFixedRate(
+            @NotNull Runnable task, @NotNull Duration initialDelay, @NotNull Duration period);
+}
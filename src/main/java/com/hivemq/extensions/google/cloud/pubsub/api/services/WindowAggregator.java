@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extension.sdk.api.packets.publish.PublishPacket;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.WindowAggregatorBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.transformers.TransformerFlushInput;
+
+/**
+ * Aggregates numeric values per key over tumbling or sliding time windows, so that high frequency telemetry can be
+ * forwarded as one message per key and window instead of one message per MQTT PUBLISH.
+ * <p>
+ * The state of every key is kept in a preallocated slot of primitive values (count, min, max, sum, last), adding a
+ * value does not allocate. When a window closes, the {@link WindowResultHandler} is called for every key that received
+ * at least one value in the window. The slot of a key is released when the key received no value for the size of a
+ * whole window, so keys that are no longer used do not occupy slots. Values of new keys are only rejected while all
+ * slots are occupied by keys that received values within the last window. Rejected values are counted in the
+ * {@link com.hivemq.extensions.google.cloud.pubsub.api.model.TransformerMetrics#getWindowRejectedValuesName() rejected
+ * values} metric of the transformer.
+ * <p>
+ * When the transformer is
+ * {@link com.hivemq.extensions.google.cloud.pubsub.api.transformers.Transformer#flush(TransformerFlushInput) flushed},
+ * all aggregators of the transformer are {@link #flush() flushed} before its flush method is called, so the values of
+ * the open windows are not lost on a stop or a reload of the configuration.
+ * <p>
+ * Use a {@link WindowAggregatorBuilder} to create a {@code WindowAggregator}. All methods can be called concurrently.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface WindowAggregator {
+
+    /**
+     * Add the payload of the {@code publishPacket} as a value for its topic. The payload must be a decimal number
+     * encoded as UTF-8.
+     *
+     * @param publishPacket The {@link PublishPacket} to add.
+     * @return <code>true</code> if the value was added, <code>false</code> if the payload is not a decimal number or
+     *         all slots for keys are occupied.
+     * @throws NullPointerException If {@code publishPacket} is null.
+     * @since 4.54.0
+     */
+    boolean add(@NotNull PublishPacket publishPacket);
+
+    /**
+     * Add a value for a key.
+     *
+     * @param key   The key of the value, e.g. the MQTT topic.
+     * @param value The value to add.
+     * @return <code>true</code> if the value was added, <code>false</code> if all slots for keys are occupied.
+     * @throws NullPointerException If {@code key} is null.
+     * @since 4.54.0
+     */
+    boolean add(@NotNull String key, double value);
+
+    /**
+     * Close all open windows immediately and call the {@link WindowResultHandler} for every key that received at least
+     * one value in them. The {@link com.hivemq.extensions.google.cloud.pubsub.api.model.WindowResult#getWindowEnd()
+     * end} of these windows is the time of the flush. New windows start with the next added value.
+     * <p>
+     * This method returns after the {@link WindowResultHandler} was called for all keys. The handler is called on the
+     * thread that calls this method.
+     *
+     * @since 4.54.0
+     */
+    void flush();
+}
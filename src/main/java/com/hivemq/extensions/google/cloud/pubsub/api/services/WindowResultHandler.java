@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.services;
+
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.WindowResult;
+import com.hivemq.extensions.google.cloud.pubsub.api.transformers.MqttToPubSubEmitter;
+
+/**
+ * Implement this handler to turn the {@link WindowResult}s of a {@link WindowAggregator} into
+ * {@link com.hivemq.extensions.google.cloud.pubsub.api.model.OutboundPubSubMessage}s.
+ * <p>
+ * When a window closes, the handler is called on the threads of the {@link TransformerScheduler}. When the
+ * {@link WindowAggregator} is {@link WindowAggregator#flush() flushed}, the handler is called on the thread that calls
+ * {@link WindowAggregator#flush()}, e.g. a transformer thread. The handler can therefore be called concurrently and
+ * must be thread-safe. It must not block.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@FunctionalInterface
+public interface WindowResultHandler {
+
+    /**
+     * This callback is executed for every key that received at least one value in a window, after the window closed.
+     *
+     * @param windowResult        The aggregated values of the key in the window.
+     * @param mqttToPubSubEmitter The {@link MqttToPubSubEmitter} to publish the result with.
+     * @since 4.54.0
+     */
+    void onWindowClosed(@NotNull WindowResult windowResult, @NotNull MqttToPubSubEmitter mqttToPubSubEmitter);
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.transformers;
+
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.OutboundPubSubMessage;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Implement this transformer for the asynchronous, programmatic creation of {@link OutboundPubSubMessage}s from
+ * {@link com.hivemq.extension.sdk.api.packets.publish.PublishPacket}s.
+ * <p>
+ * In contrast to the {@link MqttToPubSubTransformer}, the transformation is not finished when the callback returns,
+ * but when the returned {@link CompletionStage} completes. This allows I/O bound transformations (e.g. lookups in
+ * external systems) without blocking a thread of the HiveMQ Enterprise Extension for PubSub for every message in
+ * flight.
+ * <p>
+ * The returned {@link CompletionStage} must complete within the {@code <async-timeout>} configured in the
+ * {@code <mqtt-to-pubsub-transformer>} tag (default 10 seconds). When the timeout elapses, the transformation is
+ * handled as if the {@link CompletionStage} completed exceptionally with a
+ * {@link java.util.concurrent.TimeoutException}. The {@link OutboundPubSubMessage}s set so far are discarded and a
+ * later completion of the {@link CompletionStage} is ignored.
+ * <p>
+ * At most {@code <max-outstanding-transformations>} (default 1,000) returned {@link CompletionStage}s per transformer
+ * are outstanding at the same time. When the limit is reached, the callback is not called for further MQTT PUBLISHes
+ * until an outstanding {@link CompletionStage} completes or times out.
+ * <p>
+ * Your implementation of the MqttToPubSubAsyncTransformer must be placed in a java archive (.jar) together with all its
+ * dependencies in the {@code customizations} folder of the HiveMQ Enterprise Extension for PubSub. In addition, a
+ * {@code <mqtt-to-pubsub-transformer>} referencing the implementing class via its canonical name must be configured in
+ * the {@code google-cloud-pubsub-configuration.xml} file.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@FunctionalInterface
+public interface MqttToPubSubAsyncTransformer extends Transformer<MqttToPubSubInitInput> {
+
+    /**
+     * This callback is executed for every MQTT PUBLISH that arrives at your HiveMQ cluster matching the
+     * {@code <mqtt-pubsub-filters>} tag configured in the {@code <mqtt-to-pubsub-transformer>}. It allows the
+     * publication of any number of {@link OutboundPubSubMessage}s via the {@link MqttToPubSubOutput} object.
+     * <p>
+     * The {@link MqttToPubSubOutput} can be used from any thread until the returned {@link CompletionStage} completes
+     * or times out. The {@link OutboundPubSubMessage}s set at completion are published. Afterwards, any call of
+     * {@link MqttToPubSubOutput#setOutboundPubSubMessages(List)} throws an {@link IllegalStateException}.
+     * <p>
+     * If the {@link CompletionStage} completes exceptionally or this method throws an exception, no
+     * {@link OutboundPubSubMessage} is published for the MQTT PUBLISH and the MQTT PUBLISH is dropped, it is not
+     * retried. The exception is logged and counted in the
+     * {@link com.hivemq.extensions.google.cloud.pubsub.api.model.TransformerMetrics#getExceptionCountName() exception
+     * count} of the transformer. A timeout is handled the same way.
+     *
+     * @param mqttToPubSubInput  The {@link MqttToPubSubInput} contains the triggering
+     *                           {@link com.hivemq.extension.sdk.api.packets.publish.PublishPacket} information.
+     * @param mqttToPubSubOutput Pass the list of new {@link OutboundPubSubMessage}s to the
+     *                           {@link MqttToPubSubOutput#setOutboundPubSubMessages(List)} method before the returned
+     *                           {@link CompletionStage} completes.
+     * @return A {@link CompletionStage} that completes when the transformation is finished.
+     * @since 4.54.0
+     */
+    @NotNull CompletionStage<Void> transformMqttToPubSub(
+            @NotNull MqttToPubSubInput mqttToPubSubInput, @NotNull MqttToPubSubOutput mqttToPubSubOutput);
+}
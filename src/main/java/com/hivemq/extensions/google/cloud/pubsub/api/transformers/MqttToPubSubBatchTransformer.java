@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.transformers;
+
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.OutboundPubSubMessage;
+
+import java.util.List;
+
+/**
+ * Implement this transformer for the programmatic creation of {@link OutboundPubSubMessage}s from batches of
+ * {@link com.hivemq.extension.sdk.api.packets.publish.PublishPacket}s.
+ * <p>
+ * In contrast to the {@link MqttToPubSubTransformer}, which is called once per MQTT PUBLISH, this transformer receives
+ * multiple MQTT PUBLISHes that match the {@code <mqtt-pubsub-filters>} of the transformer in a single call. Per-call
+ * setup work is therefore only done once per batch. The batch is not related to the Google Cloud Pub/Sub publish
+ * batches, as the target topics are only known after the transformation.
+ * <p>
+ * The HiveMQ Enterprise Extension for PubSub collects the MQTT PUBLISHes per transformer until either
+ * {@code <max-batch-size>} MQTT PUBLISHes are collected (default 100) or {@code <max-batch-linger>} elapsed since the
+ * first MQTT PUBLISH of the batch was collected (default 10 milliseconds). Both values are configured in the
+ * {@code <mqtt-to-pubsub-transformer>} tag. The batching therefore adds at most the configured linger time to the
+ * latency of every MQTT PUBLISH. A {@code <max-batch-linger>} of 0 only batches the MQTT PUBLISHes that are already
+ * waiting for the transformer.
+ * <p>
+ * Your implementation of the MqttToPubSubBatchTransformer must be placed in a java archive (.jar) together with all its
+ * dependencies in the {@code customizations} folder of the HiveMQ Enterprise Extension for PubSub. In addition, a
+ * {@code <mqtt-to-pubsub-transformer>} referencing the implementing class via its canonical name must be configured in
+ * the {@code google-cloud-pubsub-configuration.xml} file.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@FunctionalInterface
+public interface MqttToPubSubBatchTransformer extends Transformer<MqttToPubSubInitInput> {
+
+    /**
+     * This callback is executed for every batch of MQTT PUBLISHes that arrive at your HiveMQ cluster matching the
+     * {@code <mqtt-pubsub-filters>} tag configured in the {@code <mqtt-to-pubsub-transformer>}. It allows the
+     * publication of any number of {@link OutboundPubSubMessage}s via the {@link MqttToPubSubBatchOutput} object.
+     * <p>
+     * This method is called by multiple threads concurrently, different batches of the same transformer can be
+     * transformed at the same time. If this method throws an exception, the exception is logged and counted once in
+     * the {@link com.hivemq.extensions.google.cloud.pubsub.api.model.TransformerMetrics#getExceptionCountName()
+     * exception count} of the transformer. No {@link OutboundPubSubMessage} of the batch is published and all MQTT
+     * PUBLISHes of the batch are dropped, they are not retried.
+     *
+     * @param mqttToPubSubBatchInput  The {@link MqttToPubSubBatchInput} contains the triggering
+     *                                {@link com.hivemq.extension.sdk.api.packets.publish.PublishPacket}s.
+     * @param mqttToPubSubBatchOutput Pass the list of new {@link OutboundPubSubMessage}s to the
+     *                                {@link MqttToPubSubBatchOutput#setOutboundPubSubMessages(List)} method.
+     * @since 4.54.0
+     */
+    @ThreadSafe
+    void transformMqttToPubSub(
+            @NotNull MqttToPubSubBatchInput mqttToPubSubBatchInput,
+            @NotNull MqttToPubSubBatchOutput mqttToPubSubBatchOutput);
+}
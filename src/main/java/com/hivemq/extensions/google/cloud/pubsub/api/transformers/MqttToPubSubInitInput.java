@@ -18,9 +18,22 @@ package com.hivemq.extensions.google.cloud.pubsub.api.transformers;
 
 import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
 import com.hivemq.extension.sdk.api.annotations.Immutable;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.PublishAggregatorBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.SamplerBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.TopicRouterBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.WindowAggregatorBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.PublishAggregator;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.Sampler;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.TopicRouter;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.WindowAggregator;
 
 /**
- * Provides context for the initialization of a {@link MqttToPubSubTransformer}.
+ * Provides context for the initialization of a {@link MqttToPubSubTransformer}, a
+ * {@link MqttToPubSubBatchTransformer} or a {@link MqttToPubSubAsyncTransformer}.
+ * <p>
+ * A transformer class must implement exactly one of these transformer interfaces. If a referenced class implements
+ * more than one of them, the transformer is not loaded and an error is logged.
  *
  * @author Florian Limpöck
  * @author Mario Schwede
@@ -29,4 +42,46 @@ import com.hivemq.extension.sdk.api.annotations.Immutable;
 @Immutable
 @DoNotImplement
 public interface MqttToPubSubInitInput extends TransformerInitInput {
+
+    /**
+     * Create a new {@link TopicRouterBuilder}. The {@link TopicRouter} should be built once during the initialization
+     * and be used for all MQTT PUBLISHes afterwards.
+     *
+     * @return An empty instance of the {@link TopicRouterBuilder}.
+     * @since 4.54.0
+     */
+    @NotNull TopicRouterBuilder newTopicRouterBuilder();
+
+    /**
+     * Create a new {@link PublishAggregatorBuilder}. The {@link PublishAggregator} should be built once during the
+     * initialization and be used for all MQTT PUBLISHes afterwards.
+     *
+     * @return An empty instance of the {@link PublishAggregatorBuilder}.
+     * @since 4.54.0
+     */
+    @NotNull PublishAggregatorBuilder newPublishAggregatorBuilder();
+
+    /**
+     * @return The {@link MqttToPubSubEmitter} to publish messages outside of a transformer call.
+     * @since 4.54.0
+     */
+    @NotNull MqttToPubSubEmitter getMqttToPubSubEmitter();
+
+    /**
+     * Create a new {@link WindowAggregatorBuilder}. The {@link WindowAggregator} should be built once during the
+     * initialization and be used for all MQTT PUBLISHes afterwards.
+     *
+     * @return An empty instance of the {@link WindowAggregatorBuilder}.
+     * @since 4.54.0
+     */
+    @NotNull WindowAggregatorBuilder newWindowAggregatorBuilder();
+
+    /**
+     * Create a new {@link SamplerBuilder}. The {@link Sampler} should be built once during the initialization and be
+     * used for all MQTT PUBLISHes afterwards.
+     *
+     * @return An empty instance of the {@link SamplerBuilder}.
+     * @since 4.54.0
+     */
+    @NotNull SamplerBuilder newSamplerBuilder();
 }
@@ -19,6 +19,7 @@ package com.hivemq.extensions.google.cloud.pubsub.api.transformers;
 import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
 import com.hivemq.extension.sdk.api.annotations.NotNull;
 import com.hivemq.extensions.google.cloud.pubsub.api.builders.OutboundPubSubMessageBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.LoadStatus;
 import com.hivemq.extensions.google.cloud.pubsub.api.model.OutboundPubSubMessage;
 
 import java.util.List;
@@ -29,7 +30,9 @@ import java.util.List;
  * <p>
  * After the {@link MqttToPubSubTransformer#transformMqttToPubSub(MqttToPubSubInput, MqttToPubSubOutput)} method returns
  * the {@link OutboundPubSubMessage}s given to this output will be published to Google Cloud Pub/Sub by the HiveMQ
- * Enterprise Extension for PubSub.
+ * Enterprise Extension for PubSub. When used by a {@link MqttToPubSubAsyncTransformer}, the
+ * {@link OutboundPubSubMessage}s are published after the returned {@link java.util.concurrent.CompletionStage}
+ * completes.
  *
  * @author Florian Limpöck
  * @author Mario Schwede
@@ -41,6 +44,9 @@ public interface MqttToPubSubOutput {
     /**
      * Create a new {@link OutboundPubSubMessageBuilder}. One {@link OutboundPubSubMessageBuilder} can be used to build
      * multiple Google Cloud Pub/Sub messages.
+     * <p>
+     * The returned builder may be kept beyond this transformer call and reused via
+     * {@link OutboundPubSubMessageBuilder#reset()}, as long as it is only used by one thread at a time.
      *
      * @return An empty instance of the {@link OutboundPubSubMessageBuilder}.
      * @since 4.9.0
@@ -66,7 +72,18 @@ public interface MqttToPubSubOutput {
      * @throws NullPointerException     If {@code outboundPubSubMessages} or any element of it is null.
      * @throws IllegalArgumentException If any element in {@code outboundPubSubMessages} was not created via a
      *                                  {@link OutboundPubSubMessageBuilder}.
+     * @throws IllegalStateException    If the returned {@link java.util.concurrent.CompletionStage} of a
+     *                                  {@link MqttToPubSubAsyncTransformer} already completed or timed out.
      * @since 4.9.0
      */
     void setOutboundPubSubMessages(@NotNull List<@NotNull OutboundPubSubMessage> outboundPubSubMessages);
+
+    /**
+     * Get the current load of the Google Cloud Pub/Sub publisher the output of this transformer is handed over to.
+     * Use it to shed, downsample or coarsen the output when the publisher is backing up.
+     *
+     * @return A snapshot of the {@link LoadStatus}.
+     * @since 4.54.0
+     */
+    @NotNull LoadStatus getLoadStatus();
 }
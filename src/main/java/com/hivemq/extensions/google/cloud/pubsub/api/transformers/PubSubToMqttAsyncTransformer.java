@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.transformers;
+
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.InboundPubSubMessage;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Implement this transformer for the asynchronous, programmatic creation of
+ * {@link com.hivemq.extension.sdk.api.services.publish.Publish Publishes} from {@link InboundPubSubMessage}s. One
+ * instance of the implementing class is created per reference in the google-cloud-pubsub-configuration.xml. The methods
+ * of this interface may be called concurrently and must be thread-safe.
+ * <p>
+ * In contrast to the {@link PubSubToMqttTransformer}, the transformation is not finished when the callback returns,
+ * but when the returned {@link CompletionStage} completes. This allows I/O bound transformations (e.g. lookups in
+ * external systems) without blocking a thread of the "HiveMQ Enterprise Extension for Google Cloud Pub/Sub" for every
+ * message in flight.
+ * <p>
+ * The returned {@link CompletionStage} must complete within the {@code <async-timeout>} configured in the
+ * {@code <pubsub-to-mqtt-transformer>} tag (default 10 seconds). The timeout must be shorter than the ack deadline of
+ * the subscription, otherwise Google Cloud Pub/Sub redelivers the message while it is still being transformed. When the
+ * timeout elapses, the transformation is handled as if the {@link CompletionStage} completed exceptionally with a
+ * {@link java.util.concurrent.TimeoutException}: the message is not acknowledged, so Google Cloud Pub/Sub redelivers
+ * it. The {@link com.hivemq.extension.sdk.api.services.publish.Publish Publishes} set so far are discarded and a later
+ * completion of the {@link CompletionStage} is ignored, so no duplicate is published for the timed out transformation.
+ * <p>
+ * At most {@code <max-outstanding-transformations>} (default 1,000) returned {@link CompletionStage}s per transformer
+ * are outstanding at the same time. When the limit is reached, no further messages are pulled for the transformer
+ * until an outstanding {@link CompletionStage} completes or times out.
+ * <p>
+ * Your implementation of the PubSubToMqttAsyncTransformer must be placed in a Java archive (.jar) together with all its
+ * dependencies in the {@code customizations} folder of the "HiveMQ Enterprise Extension for Google Cloud Pub/Sub". In
+ * addition, a {@code <pubsub-to-mqtt-transformer>} referencing the implementing class via its canonical name must be
+ * configured in the {@code google-cloud-pubsub-configuration.xml} file.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@FunctionalInterface
+public interface PubSubToMqttAsyncTransformer extends Transformer<PubSubToMqttInitInput> {
+
+    /**
+     * This callback is executed for every {@link InboundPubSubMessage} that the "HiveMQ Enterprise Extension for Google
+     * Cloud Pub/Sub" polls from Google Pub/Sub according to the configured {@code <pubsub-subscriptions>}
+     * in the {@code <pubsub-to-mqtt-transformer>} tag. It allows the publication of any number of
+     * {@link com.hivemq.extension.sdk.api.services.publish.Publish Publishes} via the {@link PubSubToMqttOutput}
+     * object. This method is called by multiple threads concurrently. Extensions are responsible for their own
+     * exception handling and this method must not throw any {@link Exception}.
+     * <p>
+     * The {@link PubSubToMqttOutput} can be used from any thread until the returned {@link CompletionStage} completes
+     * or times out. The {@link com.hivemq.extension.sdk.api.services.publish.Publish Publishes} set at completion are
+     * published. Afterwards, any call of {@link PubSubToMqttOutput#setPublishes(java.util.List)} throws an
+     * {@link IllegalStateException}.
+     * <p>
+     * If the {@link CompletionStage} completes exceptionally, or this method throws an exception nevertheless, no
+     * {@link com.hivemq.extension.sdk.api.services.publish.Publish Publish} is published for the PubSub message and
+     * the message is not acknowledged, so Google Cloud Pub/Sub redelivers it. The exception is logged and counted in
+     * the {@link com.hivemq.extensions.google.cloud.pubsub.api.model.TransformerMetrics#getExceptionCountName()
+     * exception count} of the transformer. A timeout is handled the same way.
+     *
+     * @param pubSubToMqttInput  The {@link PubSubToMqttInput} contains the triggering {@link InboundPubSubMessage}.
+     * @param pubSubToMqttOutput The {@link PubSubToMqttOutput} allows to
+     *                           {@link PubSubToMqttOutput#setPublishes(java.util.List)} before the returned
+     *                           {@link CompletionStage} completes.
+     *                           If no output is set, an empty List is used as default and the PubSub messages will not
+     *                           be processed again, but ignored.
+     * @return A {@link CompletionStage} that completes when the transformation is finished.
+     * @since 4.54.0
+     */
+    @ThreadSafe
+    @NotNull CompletionStage<Void> transformPubSubToMqtt(
+            @NotNull PubSubToMqttInput pubSubToMqttInput, @NotNull PubSubToMqttOutput pubSubToMqttOutput);
+}
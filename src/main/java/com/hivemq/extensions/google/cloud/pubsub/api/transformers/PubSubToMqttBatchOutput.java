@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.transformers;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.services.builder.PublishBuilder;
+import com.hivemq.extension.sdk.api.services.publish.Publish;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.InboundPubSubMessage;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.LoadStatus;
+
+import java.util.List;
+
+/**
+ * The output parameter of the {@link PubSubToMqttBatchTransformer}. It allows access to the {@link PublishBuilder}.
+ * <p>
+ * After the
+ * {@link PubSubToMqttBatchTransformer#transformPubSubToMqtt(PubSubToMqttBatchInput, PubSubToMqttBatchOutput)} method
+ * returns the {@link Publish}es given to this output will be published by HiveMQ.
+ * <p>
+ * The {@link Publish}es are set per {@link InboundPubSubMessage}, so the result of every message of the batch is
+ * handled individually by the "HiveMQ Enterprise Extension for Google Cloud Pub/Sub".
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@DoNotImplement
+public interface PubSubToMqttBatchOutput {
+
+    /**
+     * @return A new {@link PublishBuilder}.
+     * @since 4.54.0
+     */
+    @NotNull PublishBuilder newPublishBuilder();
+
+    /**
+     * Sets the {@link Publish}es, that will be published by HiveMQ for the given {@code pubSubToMqttInput} after the
+     * {@link PubSubToMqttBatchTransformer#transformPubSubToMqtt(PubSubToMqttBatchInput, PubSubToMqttBatchOutput)} call
+     * returns. The "HiveMQ Enterprise Extension for Google Cloud Pub/Sub" will publish the publishes in the order of
+     * the {@link PubSubToMqttBatchInput#getPubSubToMqttInputs()} and, for each input, in the order provided by the
+     * {@code publishes} argument.
+     * <p>
+     * If desired, the same publish can occupy multiple places in the {@code publishes} list and can be set for
+     * multiple inputs. When no publish shall be published by HiveMQ for a given {@link InboundPubSubMessage}, provide
+     * an empty list or just don't call this method for its input.
+     * <p>
+     * Use the {@link #newPublishBuilder() PublishBuilder} to create new publishes as desired.
+     * <p>
+     * Each additional call of this method for the same {@code pubSubToMqttInput} will overwrite the previous one.
+     *
+     * @param pubSubToMqttInput The {@link PubSubToMqttInput} of the batch the {@code publishes} belong to.
+     * @param publishes         A list of to be published {@link Publish}es.
+     * @throws NullPointerException     If {@code pubSubToMqttInput}, {@code publishes} or any element of it is null.
+     * @throws IllegalArgumentException If {@code pubSubToMqttInput} is not part of the
+     *                                  {@link PubSubToMqttBatchInput#getPubSubToMqttInputs()}.
+     * @throws IllegalArgumentException If any element in {@code publishes} was not created via a
+     *                                  {@link PublishBuilder}.
+     * @since 4.54.0
+     */
+    void setPublishes(@NotNull PubSubToMqttInput pubSubToMqttInput, @NotNull List<@NotNull Publish> publishes);
+
+    /**
+     * Get the current load of HiveMQ for the publishes handed over by the "HiveMQ Enterprise Extension for Google
+     * Cloud Pub/Sub". Use it to shed, downsample or coarsen the output when HiveMQ is backing up.
+     *
+     * @return A snapshot of the {@link LoadStatus}.
+     * @since 4.54.0
+     */
+    @NotNull LoadStatus getLoadStatus();
+}
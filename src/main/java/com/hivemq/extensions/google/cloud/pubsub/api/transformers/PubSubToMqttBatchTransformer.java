@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.transformers;
+
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.InboundPubSubMessage;
+
+/**
+ * Implement this transformer for the programmatic creation of
+ * {@link com.hivemq.extension.sdk.api.services.publish.Publish Publishes} from batches of
+ * {@link InboundPubSubMessage}s. One instance of the implementing class is created per reference in the
+ * google-cloud-pubsub-configuration.xml. The methods of this interface may be called concurrently and must be
+ * thread-safe.
+ * <p>
+ * In contrast to the {@link PubSubToMqttTransformer}, which is called once per {@link InboundPubSubMessage}, this
+ * transformer receives all messages of one pull response of a subscription in a single call.
+ * <p>
+ * Your implementation of the PubSubToMqttBatchTransformer must be placed in a Java archive (.jar) together with all its
+ * dependencies in the {@code customizations} folder of the "HiveMQ Enterprise Extension for Google Cloud Pub/Sub". In
+ * addition, a {@code <pubsub-to-mqtt-transformer>} referencing the implementing class via its canonical name must be
+ * configured in the {@code google-cloud-pubsub-configuration.xml} file.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@FunctionalInterface
+public interface PubSubToMqttBatchTransformer extends Transformer<PubSubToMqttInitInput> {
+
+    /**
+     * This callback is executed for every batch of {@link InboundPubSubMessage}s that the "HiveMQ Enterprise Extension
+     * for Google Cloud Pub/Sub" polls from Google Pub/Sub according to the configured {@code <pubsub-subscriptions>}
+     * in the {@code <pubsub-to-mqtt-transformer>} tag. It allows the publication of any number of
+     * {@link com.hivemq.extension.sdk.api.services.publish.Publish Publishes} per {@link InboundPubSubMessage} via the
+     * {@link PubSubToMqttBatchOutput} object. This method is called by multiple threads concurrently. Extensions are
+     * responsible for their own exception handling and this method must not throw any {@link Exception}.
+     * <p>
+     * If this method throws an exception nevertheless, no
+     * {@link com.hivemq.extension.sdk.api.services.publish.Publish Publish} of the batch is published and all
+     * {@link InboundPubSubMessage}s of the batch are not acknowledged, so Google Cloud Pub/Sub redelivers the whole
+     * batch. The exception is logged and counted once in the
+     * {@link com.hivemq.extensions.google.cloud.pubsub.api.model.TransformerMetrics#getExceptionCountName() exception
+     * count} of the transformer. If the method returns normally, every message of the batch is acknowledged after the
+     * publishes set for it were handed over to HiveMQ.
+     *
+     * @param pubSubToMqttBatchInput  The {@link PubSubToMqttBatchInput} contains the triggering
+     *                                {@link InboundPubSubMessage}s.
+     * @param pubSubToMqttBatchOutput The {@link PubSubToMqttBatchOutput} allows to
+     *                                {@link PubSubToMqttBatchOutput#setPublishes(PubSubToMqttInput, java.util.List)}
+     *                                for each message of the batch. If no output is set for a message, an empty List
+     *                                is used as default and this PubSub message will not be processed again, but
+     *                                ignored.
+     * @since 4.54.0
+     */
+    @ThreadSafe
+    void transformPubSubToMqtt(
+            @NotNull PubSubToMqttBatchInput pubSubToMqttBatchInput,
+            @NotNull PubSubToMqttBatchOutput pubSubToMqttBatchOutput);
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.transformers;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extension.sdk.api.annotations.ThreadSafe;
+import com.hivemq.extension.sdk.api.services.builder.PublishBuilder;
+import com.hivemq.extension.sdk.api.services.publish.Publish;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Allows Google Cloud Pub/Sub to MQTT transformers to publish {@link Publish}es outside of a transformer call, e.g.
+ * buffered publishes during {@link Transformer#flush(TransformerFlushInput)}.
+ * <p>
+ * The emitter can be used from the end of the {@link Transformer#init(TransformerInitInput)} method until the
+ * {@link TransformerFlushInput#getDeadline() deadline} of the flush that precedes
+ * {@link Transformer#stop(TransformerStopInput)}. All methods can be called concurrently.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@ThreadSafe
+@DoNotImplement
+public interface PubSubToMqttEmitter {
+
+    /**
+     * @return A new {@link PublishBuilder}.
+     * @since 4.54.0
+     */
+    @NotNull PublishBuilder newPublishBuilder();
+
+    /**
+     * Publish the {@link Publish}es via HiveMQ in the order provided by the {@code publishes} argument.
+     *
+     * @param publishes A list of to be published {@link Publish}es.
+     * @return A {@link CompletionStage} that completes when all publishes were handed over to HiveMQ, or completes
+     *         exceptionally if publishing failed or the emitter can no longer be used.
+     * @throws NullPointerException     If {@code publishes} or any element of it is null.
+     * @throws IllegalArgumentException If any element in {@code publishes} was not created via a
+     *                                  {@link PublishBuilder}.
+     * @since 4.54.0
+     */
+    @NotNull CompletionStage<Void> emit(@NotNull List<@NotNull Publish> publishes);
+}
@@ -18,9 +18,18 @@ package com.hivemq.extensions.google.cloud.pubsub.api.transformers;
 
 import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
 import com.hivemq.extension.sdk.api.annotations.Immutable;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.DeduplicationFilterBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.InboundPubSubMessage;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.DeduplicationFilter;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.PublishEnvelopeReader;
 
 /**
- * Provides context for the initialization of a {@link PubSubToMqttTransformer}.
+ * Provides context for the initialization of a {@link PubSubToMqttTransformer}, a
+ * {@link PubSubToMqttBatchTransformer} or a {@link PubSubToMqttAsyncTransformer}.
+ * <p>
+ * A transformer class must implement exactly one of these transformer interfaces. If a referenced class implements
+ * more than one of them, the transformer is not loaded and an error is logged.
  *
  * @author Florian Limpöck
  * @author Mario Schwede
@@ -29,4 +38,26 @@ import com.hivemq.extension.sdk.api.annotations.Immutable;
 @Immutable
 @DoNotImplement
 public interface PubSubToMqttInitInput extends TransformerInitInput {
+
+    /**
+     * @return The {@link PublishEnvelopeReader} to split envelope messages created by a
+     *         {@link com.hivemq.extensions.google.cloud.pubsub.api.services.PublishAggregator} into MQTT PUBLISHes.
+     * @since 4.54.0
+     */
+    @NotNull PublishEnvelopeReader getPublishEnvelopeReader();
+
+    /**
+     * Create a new {@link DeduplicationFilterBuilder}. The {@link DeduplicationFilter} should be built once during the
+     * initialization and be used for all {@link InboundPubSubMessage}s afterwards.
+     *
+     * @return An empty instance of the {@link DeduplicationFilterBuilder}.
+     * @since 4.54.0
+     */
+    @NotNull DeduplicationFilterBuilder newDeduplicationFilterBuilder();
+
+    /**
+     * @return The {@link PubSubToMqttEmitter} to publish publishes outside of a transformer call.
+     * @since 4.54.0
+     */
+    @NotNull PubSubToMqttEmitter getPubSubToMqttEmitter();
 }
@@ -21,6 +21,7 @@ import com.hivemq.extension.sdk.api.annotations.NotNull;
 import com.hivemq.extension.sdk.api.services.builder.PublishBuilder;
 import com.hivemq.extension.sdk.api.services.publish.Publish;
 import com.hivemq.extensions.google.cloud.pubsub.api.model.InboundPubSubMessage;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.LoadStatus;
 
 import java.util.List;
 
@@ -28,7 +29,9 @@ import java.util.List;
  * The output parameter of the {@link PubSubToMqttTransformer}. It allows access to the {@link PublishBuilder}.
  * <p>
  * After the {@link PubSubToMqttTransformer#transformPubSubToMqtt(PubSubToMqttInput, PubSubToMqttOutput)} method returns
- * the {@link Publish}es given to this output will be published by HiveMQ.
+ * the {@link Publish}es given to this output will be published by HiveMQ. When used by a
+ * {@link PubSubToMqttAsyncTransformer}, the {@link Publish}es are published after the returned
+ * {@link java.util.concurrent.CompletionStage} completes.
  *
  * @author Florian Limpöck
  * @author Mario Schwede
@@ -61,7 +64,18 @@ public interface PubSubToMqttOutput {
      * @throws NullPointerException     If {@code publishes} or any element of it is null.
      * @throws IllegalArgumentException If any element in {@code publishes} was not created via a
      *                                  {@link PublishBuilder}.
+     * @throws IllegalStateException    If the returned {@link java.util.concurrent.CompletionStage} of a
+     *                                  {@link PubSubToMqttAsyncTransformer} already completed or timed out.
      * @since 4.9.0
      */
     void setPublishes(@NotNull List<@NotNull Publish> publishes);
+
+    /**
+     * Get the current load of HiveMQ for the publishes handed over by the "HiveMQ Enterprise Extension for Google
+     * Cloud Pub/Sub". Use it to shed, downsample or coarsen the output when HiveMQ is backing up.
+     *
+     * @return A snapshot of the {@link LoadStatus}.
+     * @since 4.54.0
+     */
+    @NotNull LoadStatus getLoadStatus();
 }
@@ -37,4 +37,36 @@ public interface Transformer<I extends TransformerInitInput> {
      */
     default void init(final @NotNull I transformerInitInput) {
     }
+
+    /**
+     * Use the flush method to emit all buffered state before the transformer is stopped. It is called once before
+     * {@link #stop(TransformerStopInput)}, after the last transformer call returned. For the
+     * {@link MqttToPubSubAsyncTransformer} and the {@link PubSubToMqttAsyncTransformer}, it is called only after every
+     * returned {@link java.util.concurrent.CompletionStage} completed or timed out.
+     * <p>
+     * The "HiveMQ Enterprise Extension for Google Cloud Pub/Sub" waits for the outstanding
+     * {@link java.util.concurrent.CompletionStage}s at most until the {@link TransformerFlushInput#getDeadline()
+     * deadline}. {@link java.util.concurrent.CompletionStage}s that are still outstanding at the deadline are handled
+     * as timed out, their output is discarded and a later completion is ignored. The flush method is called afterwards
+     * in any case.
+     * <p>
+     * Buffered messages can be published via {@link MqttToPubSubInitInput#getMqttToPubSubEmitter()} or
+     * {@link PubSubToMqttInitInput#getPubSubToMqttEmitter()} until the {@link TransformerFlushInput#getDeadline()
+     * deadline}.
+     *
+     * @param transformerFlushInput The {@link TransformerFlushInput} contains the reason and the deadline of the flush.
+     * @since 4.54.0
+     */
+    default void flush(final @NotNull TransformerFlushInput transformerFlushInput) {
+    }
+
+    /**
+     * Use the stop method to release all resources of the transformer. It is called once after
+     * {@link #flush(TransformerFlushInput)} and no other method of the transformer is called afterwards.
+     *
+     * @param transformerStopInput The {@link TransformerStopInput} contains the reason and the deadline of the stop.
+     * @since 4.54.0
+     */
+    default void stop(final @NotNull TransformerStopInput transformerStopInput) {
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.transformers;
+
+import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
+import com.hivemq.extension.sdk.api.annotations.Immutable;
+import com.hivemq.extension.sdk.api.annotations.NotNull;
+
+import java.time.Instant;
+
+/**
+ * The input parameter of the {@link Transformer#flush(TransformerFlushInput)} method.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+@Immutable
+@DoNotImplement
+public interface TransformerFlushInput {
+
+    /**
+     * @return The reason the transformer is flushed.
+     * @since 4.54.0
+     */
+    @NotNull TransformerStopReason getReason();
+
+    /**
+     * Messages emitted after the deadline are discarded.
+     *
+     * @return The point in time until buffered messages must be emitted.
+     * @since 4.54.0
+     */
+    @NotNull Instant getDeadline();
+}
@@ -20,8 +20,21 @@ import com.codahale.metrics.MetricRegistry;
 import com.hivemq.extension.sdk.api.annotations.DoNotImplement;
 import com.hivemq.extension.sdk.api.annotations.Immutable;
 import com.hivemq.extension.sdk.api.annotations.NotNull;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.OrderingKeyShardingBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.PropertyMapperBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.PublishJsonCodecBuilder;
+import com.hivemq.extensions.google.cloud.pubsub.api.builders.SchemaCodecBuilder;
 import com.hivemq.extensions.google.cloud.pubsub.api.model.CustomSettings;
 import com.hivemq.extensions.google.cloud.pubsub.api.model.PubSubConnection;
+import com.hivemq.extensions.google.cloud.pubsub.api.model.TransformerMetrics;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.CacheService;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.MessageFilter;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.OrderingKeySharding;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.PayloadCodecs;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.PropertyMapper;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.PublishJsonCodec;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.SchemaCodec;
+import com.hivemq.extensions.google.cloud.pubsub.api.services.TransformerScheduler;
 
 /**
  * A marker interface for the input object of the {@link Transformer#init(TransformerInitInput)} method.
@@ -44,6 +57,15 @@ public interface TransformerInitInput {
      */
     @NotNull MetricRegistry getMetricRegistry();
 
+    /**
+     * Get the names of the metrics the "Enterprise Extension for Google Cloud Pub/Sub" records for this transformer in
+     * the {@link #getMetricRegistry() MetricRegistry}.
+     *
+     * @return The {@link TransformerMetrics} of this transformer.
+     * @since 4.54.0
+     */
+    @NotNull TransformerMetrics getTransformerMetrics();
+
     /**
      * @return The {@link CustomSettings} this transformer is associated with.
      * @since 4.9.0
@@ -55,4 +77,72 @@ public interface TransformerInitInput {
      * @since 4.9.0
      */
     @NotNull PubSubConnection getPubSubConnection();
+
+    /**
+     * @return The {@link PayloadCodecs} to encode outbound and decode inbound Google Cloud Pub/Sub data with.
+     * @since 4.54.0
+     */
+    @NotNull PayloadCodecs getPayloadCodecs();
+
+    /**
+     * Create a new {@link PublishJsonCodecBuilder}. The {@link PublishJsonCodec} should be built once during the
+     * initialization and be used for all messages afterwards.
+     *
+     * @return An empty instance of the {@link PublishJsonCodecBuilder}.
+     * @since 4.54.0
+     */
+    @NotNull PublishJsonCodecBuilder newPublishJsonCodecBuilder();
+
+    /**
+     * Create a new {@link OrderingKeyShardingBuilder}. The {@link OrderingKeySharding} should be built once during the
+     * initialization and be used for all messages afterwards.
+     *
+     * @return An empty instance of the {@link OrderingKeyShardingBuilder}.
+     * @since 4.54.0
+     */
+    @NotNull OrderingKeyShardingBuilder newOrderingKeyShardingBuilder();
+
+    /**
+     * Compile a filter expression, e.g. read from the {@link #getCustomSettings() CustomSettings}, into a
+     * {@link MessageFilter}. The filter should be compiled once during the initialization and be used for all messages
+     * afterwards.
+     *
+     * @param expression The filter expression. See {@link MessageFilter} for the syntax.
+     * @return The compiled {@link MessageFilter}.
+     * @throws NullPointerException     If {@code expression} is null.
+     * @throws IllegalArgumentException If {@code expression} is not a valid filter expression.
+     * @since 4.54.0
+     */
+    @NotNull MessageFilter compileMessageFilter(@NotNull String expression);
+
+    /**
+     * @return The {@link TransformerScheduler} to execute time-based tasks of this transformer.
+     * @since 4.54.0
+     */
+    @NotNull TransformerScheduler getScheduler();
+
+    /**
+     * @return The {@link CacheService} to share caches with the other transformers of the "Enterprise Extension for
+     *         Google Cloud Pub/Sub".
+     * @since 4.54.0
+     */
+    @NotNull CacheService getCacheService();
+
+    /**
+     * Create a new {@link SchemaCodecBuilder}. The {@link SchemaCodec} should be built once during the initialization
+     * and be used for all messages afterwards.
+     *
+     * @return An empty instance of the {@link SchemaCodecBuilder}.
+     * @since 4.54.0
+     */
+    @NotNull SchemaCodecBuilder newSchemaCodecBuilder();
+
+    /**
+     * Create a new {@link PropertyMapperBuilder}. The {@link PropertyMapper} should be built once during the
+     * initialization and be used for all messages afterwards.
+     *
+     * @return An empty instance of the {@link PropertyMapperBuilder}.
+     * @since 4.54.0
+     */
+    @NotNull PropertyMapperBuilder newPropertyMapperBuilder();
 }
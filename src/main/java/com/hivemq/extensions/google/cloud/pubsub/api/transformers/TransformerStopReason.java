@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.extensions.google.cloud.pubsub.api.transformers;
+
+/**
+ * The reason a transformer is flushed and stopped.
+ *
+ * @author Florian Limpöck
+ * @author Mario Schwede
+ * @since 4.54.0
+ */
+public enum TransformerStopReason {
+
+    /**
+     * The "HiveMQ Enterprise Extension for Google Cloud Pub/Sub" is stopped.
+     *
+     * @since 4.54.0
+     */
+    EXTENSION_STOP,
+
+    /**
+     * The {@code google-cloud-pubsub-configuration.xml} was changed and the transformer is replaced by a new instance.
+     *
+     * @since 4.54.0
+     */
+    CONFIGURATION_RELOAD,
+
+    /**
+     * The HiveMQ node leaves the cluster or is shut down.
+     *
+     * @since 4.54.0
+     */
+    NODE_SHUTDOWN
+}